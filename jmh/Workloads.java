@@ -0,0 +1,334 @@
+import bench.Dataset;
+import bench.Workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The workloads of bench.DataStructureBenchmark and bench.ParallelBfsBenchmark. They live
+ * in the default package so they can use the game's classes; every data structure one
+ * does one operation per dataset word.
+ */
+public class Workloads {
+    /**
+     * @param name  Workload name, see DataStructureBenchmark
+     * @param data  Words to use
+     */
+    public static Workload create(String name, Dataset data) {
+        List<String> words = data.inOrder(name);
+        List<String> probes = data.probeWords;
+        switch (name.replaceAll("\\.(random|sorted)$", "")) {
+            case "AVLTree.insert":
+                return new Workload() {
+                    AVLTree<String> tree;
+                    public void setupInvocation() {
+                        tree = new AVLTree<>();
+                    }
+                    public long run() {
+                        for (String word : words)
+                            tree.insert(word);
+                        return tree.height();
+                    }
+                };
+            case "AVLTree.fromSorted":
+                return () -> AVLTree.fromSorted(words).height();
+            case "AVLTree.contains":
+                return new Workload() {
+                    AVLTree<String> tree;
+                    public void setupIteration() {
+                        tree = buildAvl(words);
+                    }
+                    public long run() {
+                        long found = 0;
+                        for (String word : probes)
+                            if (tree.contains(word)) found++;
+                        return found;
+                    }
+                };
+            case "AVLTree.deleteMin":
+                return new Workload() {
+                    AVLTree<String> tree;
+                    public void setupInvocation() {
+                        tree = buildAvl(words);
+                    }
+                    public long run() {
+                        long length = 0;
+                        while (!tree.isEmpty())
+                            length += tree.deleteMin().length();
+                        return length;
+                    }
+                };
+            case "AVLTree.remove":
+                return new Workload() {
+                    AVLTree<String> tree;
+                    public void setupInvocation() {
+                        tree = buildAvl(words);
+                    }
+                    public long run() {
+                        for (String word : probes)
+                            tree.remove(word);
+                        return tree.isEmpty() ? 1 : 0;
+                    }
+                };
+            case "PooledAVLTree.insertDeleteMin":
+                return new Workload() {
+                    PooledAVLTree<String> tree = new PooledAVLTree<>(words.size());  // empty again after every run
+                    public long run() {
+                        long length = 0;
+                        for (String word : words)
+                            tree.insert(word);
+                        while (!tree.isEmpty())
+                            length += tree.deleteMin().length();
+                        return length;
+                    }
+                };
+            case "BinarySearchTree.insert":
+                return new Workload() {
+                    BinarySearchTree<String> tree;
+                    public void setupInvocation() {
+                        tree = new BinarySearchTree<>();
+                    }
+                    public long run() {
+                        long added = 0;
+                        for (String word : words)
+                            if (tree.insert(word)) added++;
+                        return added;
+                    }
+                };
+            case "BinarySearchTree.search":
+                return new Workload() {
+                    BinarySearchTree<String> tree;
+                    public void setupIteration() {
+                        tree = buildBst(words);
+                    }
+                    public long run() {
+                        long found = 0;
+                        for (String word : probes)
+                            if (tree.search(word)) found++;
+                        return found;
+                    }
+                };
+            case "BinarySearchTree.remove":
+                return new Workload() {
+                    BinarySearchTree<String> tree;
+                    public void setupInvocation() {
+                        tree = buildBst(words);
+                    }
+                    public long run() {
+                        long removed = 0;
+                        for (String word : probes)
+                            if (tree.remove(word)) removed++;
+                        return removed;
+                    }
+                };
+            case "FrozenSearchTree.search":
+                return new Workload() {
+                    FrozenSearchTree<String> tree;
+                    public void setupIteration() {
+                        tree = buildBst(words).freeze();
+                    }
+                    public long run() {
+                        long found = 0;
+                        for (String word : probes)
+                            if (tree.search(word)) found++;
+                        return found;
+                    }
+                };
+            case "PackedWordSet.contains":
+                return new Workload() {
+                    PackedWordSet set;
+                    public void setupIteration() {
+                        set = PackedWordSet.of(words);
+                    }
+                    public long run() {
+                        long found = 0;
+                        for (String word : probes)
+                            if (set.contains(word)) found++;
+                        return found;
+                    }
+                };
+            case "FrozenSearchTree.neighborProbe":
+                // one-letter-off neighbors of every word: 26 lookups per letter, as the solvers once did
+                return new Workload() {
+                    FrozenSearchTree<String> tree;
+                    public void setupIteration() {
+                        tree = buildBst(words).freeze();
+                    }
+                    public long run() {
+                        long found = 0;
+                        for (String word : probes) {
+                            char[] letters = word.toCharArray();
+                            for (int i = 0; i < letters.length; i++) {
+                                char original = letters[i];
+                                for (char c = 'a'; c <= 'z'; c++) {
+                                    if (c != original) {
+                                        letters[i] = c;
+                                        if (tree.search(String.valueOf(letters))) found++;
+                                    }
+                                }
+                                letters[i] = original;
+                            }
+                        }
+                        return found;
+                    }
+                };
+            case "WordTrie.forEachNeighbor":
+                return new Workload() {
+                    WordTrie trie;
+                    long found;
+                    public void setupIteration() {
+                        trie = new WordTrie(words.size() * 2);
+                        for (int id = 0; id < words.size(); id++)
+                            trie.insert(words.get(id), id);
+                    }
+                    public long run() {
+                        found = 0;
+                        for (String word : probes)
+                            trie.forEachNeighbor(word, id -> found++);
+                        return found;
+                    }
+                };
+            case "WordGraph.forEachNeighbor":
+                return new Workload() {
+                    WordGraph[] graphs;
+                    long found;
+                    public void setupIteration() {
+                        graphs = buildGraphs(words);
+                    }
+                    public long run() {
+                        found = 0;
+                        for (String word : probes)
+                            graphs[word.length()].forEachNeighbor(word, id -> found++);
+                        return found;
+                    }
+                };
+            case "LinkedList.enqueue":
+                return new Workload() {
+                    LinkedList<String> list;
+                    public void setupInvocation() {
+                        list = new LinkedList<>();
+                    }
+                    public long run() {
+                        for (String word : words)
+                            list.enqueue(word);
+                        return list.size();
+                    }
+                };
+            case "LinkedList.enqueueDequeue":
+                return () -> {
+                    LinkedList<String> list = new LinkedList<>();
+                    long length = 0;
+                    for (String word : words)
+                        list.enqueue(word);
+                    while (list.size() > 0)
+                        length += list.dequeue().length();
+                    return length;
+                };
+            case "LinkedList.steadyQueue":
+                return () -> {
+                    LinkedList<String> list = new LinkedList<>();
+                    long length = 0;
+                    for (int i = 0; i < 64; i++)
+                        list.enqueue(words.get(i));
+                    for (String word : words) {
+                        list.enqueue(word);
+                        length += list.dequeue().length();
+                    }
+                    return length;
+                };
+            case "IntRingQueue.steadyQueue":
+                return new Workload() {
+                    IntRingQueue queue = new IntRingQueue();
+                    public void setupInvocation() {
+                        queue.clear();
+                    }
+                    public long run() {
+                        long sum = 0;
+                        for (int i = 0; i < 64; i++)
+                            queue.enqueue(i);
+                        for (int i = 0; i < words.size(); i++) {
+                            queue.enqueue(i);
+                            sum += queue.dequeue();
+                        }
+                        return sum;
+                    }
+                };
+            case "RingQueue.steadyQueue":
+                return new Workload() {
+                    RingQueue<String> queue = new RingQueue<>();
+                    public void setupInvocation() {
+                        queue.clear();
+                    }
+                    public long run() {
+                        long length = 0;
+                        for (int i = 0; i < 64; i++)
+                            queue.enqueue(words.get(i));
+                        for (String word : words) {
+                            queue.enqueue(word);
+                            length += queue.dequeue().length();
+                        }
+                        return length;
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unknown workload " + name);
+        }
+    }
+
+    /**
+     * The workload of bench.ParallelBfsBenchmark: Solver.PARALLEL_BFS on seeded five letter
+     * pairs whose searches reach more than half the words, so most levels are wide
+     * @param dictionary  Word list to play with
+     * @param seed  Seed for picking the pairs
+     * @param pairs  Pairs searched by every run
+     * @param split  Split wide levels across threads, or search every level on one thread
+     */
+    public static Workload parallelBfs(String dictionary, long seed, int pairs, boolean split) {
+        LadderGame game = new LadderGame(dictionary);
+        if (!split) {
+            game.setParallelThreshold(Integer.MAX_VALUE);
+        }
+        List<String> words = game.allList[5];
+        Random random = new Random(seed);
+        List<String[]> widePairs = new ArrayList<>();
+        while (widePairs.size() < pairs) {
+            String startWord = words.get(random.nextInt(words.size()));
+            String endWord = words.get(random.nextInt(words.size()));
+            if (game.solve(startWord, endWord, Solver.BRUTE_FORCE).stats.enqueues > words.size() / 2)
+                widePairs.add(new String[] {startWord, endWord});
+        }
+        return () -> {
+            long moves = 0;
+            for (String[] pair : widePairs)
+                moves += game.solve(pair[0], pair[1], Solver.PARALLEL_BFS).moves();
+            return moves;
+        };
+    }
+
+    private static AVLTree<String> buildAvl(List<String> words) {
+        AVLTree<String> tree = new AVLTree<>();
+        for (String word : words)
+            tree.insert(word);
+        return tree;
+    }
+
+    private static BinarySearchTree<String> buildBst(List<String> words) {
+        BinarySearchTree<String> tree = new BinarySearchTree<>();
+        for (String word : words)
+            tree.insert(word);
+        return tree;
+    }
+
+    private static WordGraph[] buildGraphs(List<String> words) {
+        List<ArrayList<String>> byLength = new ArrayList<>();
+        for (int len = 0; len < Dataset.MAX_WORD_SIZE; len++)
+            byLength.add(new ArrayList<>());
+        for (String word : words)
+            byLength.get(word.length()).add(word);
+        WordGraph[] graphs = new WordGraph[Dataset.MAX_WORD_SIZE];
+        for (int len = 0; len < Dataset.MAX_WORD_SIZE; len++)
+            graphs[len] = new WordGraph(byLength.get(len));
+        return graphs;
+    }
+}
@@ -0,0 +1,79 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per word of each data structure operation over a seeded dataset of Dataset.WORDS
+ * words. Names ending in .random insert the words shuffled, .sorted in alphabetical
+ * order, which makes BinarySearchTree degenerate into a list. Whatever an operation
+ * needs built (or rebuilt after it used it up) is made in a setup method, so only
+ * the operation itself is timed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class DataStructureBenchmark {
+    @Param({
+            "AVLTree.insert.random", "AVLTree.insert.sorted", "AVLTree.fromSorted.sorted",
+            "AVLTree.contains.random", "AVLTree.contains.sorted",
+            "AVLTree.deleteMin.random", "AVLTree.deleteMin.sorted",
+            "AVLTree.remove.random", "AVLTree.remove.sorted",
+            "PooledAVLTree.insertDeleteMin.random", "PooledAVLTree.insertDeleteMin.sorted",
+            "BinarySearchTree.insert.random", "BinarySearchTree.insert.sorted",
+            "BinarySearchTree.search.random", "BinarySearchTree.search.sorted",
+            "BinarySearchTree.remove.random", "BinarySearchTree.remove.sorted",
+            "FrozenSearchTree.search.random", "FrozenSearchTree.search.sorted",
+            "PackedWordSet.contains.random",
+            "FrozenSearchTree.neighborProbe", "WordTrie.forEachNeighbor", "WordGraph.forEachNeighbor",
+            "LinkedList.enqueue", "LinkedList.enqueueDequeue", "LinkedList.steadyQueue",
+            "IntRingQueue.steadyQueue", "RingQueue.steadyQueue"})
+    public String workload;
+
+    @Param("42")
+    public long seed;
+
+    @Param("dictionary.txt")
+    public String dictionary;
+
+    private Workload work;
+
+    @Setup(Level.Trial)
+    public void loadDataset() throws Exception {
+        Dataset data = new Dataset(dictionary, seed);
+        work = (Workload) Class.forName("Workloads").getMethod("create", String.class, Dataset.class)
+                .invoke(null, workload, data);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        work.setupIteration();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        work.setupInvocation();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Dataset.WORDS)
+    public long run() {
+        return work.run();
+    }
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Words drawn from the dictionary with a seeded shuffle, so every run measures the same data.
+ */
+public class Dataset {
+    public static final int WORDS = 2000;       // words in every dataset, each run does one operation per word
+    public static final int MAX_WORD_SIZE = 15;  // same limit as LadderGame
+
+    public final List<String> randomWords;  // WORDS distinct words in shuffled order
+    public final List<String> sortedWords;  // the same words in alphabetical order
+    public final List<String> probeWords;   // the same words shuffled again, for lookups and removals
+
+    /**
+     * @param dictionaryFileName  Word list, one word per line
+     * @param seed  Seed for the shuffles
+     */
+    public Dataset(String dictionaryFileName, long seed) throws IOException {
+        LinkedHashSet<String> distinct = new LinkedHashSet<>();
+        for (String line : Files.readAllLines(Paths.get(dictionaryFileName), StandardCharsets.ISO_8859_1)) {
+            String word = line.trim().toLowerCase();
+            if (!word.isEmpty() && word.length() < MAX_WORD_SIZE && word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                distinct.add(word);
+            }
+        }
+        ArrayList<String> words = new ArrayList<>(distinct);
+        Collections.shuffle(words, new Random(seed));
+        randomWords = new ArrayList<>(words.subList(0, Math.min(WORDS, words.size())));
+        sortedWords = new ArrayList<>(randomWords);
+        Collections.sort(sortedWords);
+        probeWords = new ArrayList<>(randomWords);
+        Collections.shuffle(probeWords, new Random(seed + 1));
+    }
+
+    /** THE WORDS IN THE ORDER A WORKLOAD NAME ENDS WITH, ".random" OR ".sorted" **/
+    public List<String> inOrder(String workload) {
+        return workload.endsWith(".sorted") ? sortedWords : randomWords;
+    }
+}
@@ -0,0 +1,58 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per search of Solver.PARALLEL_BFS on five letter pairs whose searches run
+ * through wide levels, with wide levels split across the common ForkJoinPool (split)
+ * and with every level searched on one thread (unsplit). The pairs are picked and the
+ * graph is built in setup. Compare the two on a machine with several cores; with one
+ * core, splitting can only add overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ParallelBfsBenchmark {
+    static final int PAIRS = 20;  // searches in every run
+
+    @Param({"split", "unsplit"})
+    public String levels;
+
+    @Param("42")
+    public long seed;
+
+    @Param("dictionary.txt")
+    public String dictionary;
+
+    private Workload work;
+
+    @Setup(Level.Trial)
+    public void loadGame() throws Exception {
+        work = (Workload) Class.forName("Workloads")
+                .getMethod("parallelBfs", String.class, long.class, int.class, boolean.class)
+                .invoke(null, dictionary, seed, PAIRS, levels.equals("split"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public long run() {
+        return work.run();
+    }
+}
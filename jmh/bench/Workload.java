@@ -0,0 +1,19 @@
+package bench;
+
+/**
+ * One thing to time over the whole dataset. JMH benchmark classes can't be in the
+ * default package and code in a package can't name the game's classes, so each
+ * workload is made by the default package class Workloads and driven through this.
+ */
+public interface Workload {
+    /** BUILD WHAT EVERY RUN ONLY READS, NOT TIMED **/
+    default void setupIteration() {
+    }
+
+    /** REBUILD WHAT ONE RUN USES UP, NOT TIMED **/
+    default void setupInvocation() {
+    }
+
+    /** THE TIMED WORK, RETURNS SOMETHING COMPUTED FROM IT SO IT ISN'T THROWN AWAY **/
+    long run();
+}
@@ -1,6 +1,8 @@
+import java.util.List;
+
 // AvlTree class
 //
-// CONSTRUCTION: with no initializer
+// CONSTRUCTION: with no initializer, or fromSorted( list ) in linear time
 //
 // ******************PUBLIC OPERATIONS*********************
 // void insert( x )       --> Insert x
@@ -8,8 +10,12 @@
 // boolean contains( x )  --> Return true if x is present
 // boolean remove( x )    --> Return true if x was present
 // Comparable findMin( )  --> Return smallest item
+// Comparable deleteMin( )--> Remove and return smallest item
 // Comparable findMax( )  --> Return largest item
 // boolean isEmpty( )     --> Return true if empty; else false
+// int height( )          --> Return height of the tree, -1 if empty
+// void join( other )     --> Move all items of other (all >= ours) into this tree
+// AVLTree split( x )     --> Move items >= x into a new tree and return it
 // void makeEmpty( )      --> Remove all items
 // void printTree( )      --> Print tree in sorted order
 // ******************ERRORS********************************
@@ -29,6 +35,132 @@ public class AVLTree<AnyType extends Comparable<? super AnyType>> {
         root = null;
     }
 
+    /**
+     * Build a perfectly balanced tree from items that are already sorted,
+     * in linear time and without any rebalancing.
+     *
+     * @param sorted the items in nondecreasing order.
+     * @return a tree holding all the items.
+     * @throws IllegalArgumentException if the items are not sorted.
+     */
+    public static <T extends Comparable<? super T>> AVLTree<T> fromSorted(List<? extends T> sorted) {
+        for (int i = 1; i < sorted.size(); i++)
+            if (sorted.get(i - 1).compareTo(sorted.get(i)) > 0)
+                throw new IllegalArgumentException("Items are not sorted at index " + i);
+        AVLTree<T> tree = new AVLTree<>();
+        tree.root = buildSorted(sorted, 0, sorted.size() - 1);
+        return tree;
+    }
+
+    /**
+     * Internal method to build a balanced subtree from sorted.get(low) .. sorted.get(high).
+     *
+     * @return the root of the subtree, null if the range is empty.
+     */
+    private static <T> AvlNode<T> buildSorted(List<? extends T> sorted, int low, int high) {
+        if (low > high)
+            return null;
+        int middle = (low + high) >>> 1;
+        AvlNode<T> node = new AvlNode<>(sorted.get(middle));
+        node.left = buildSorted(sorted, low, middle - 1);
+        node.right = buildSorted(sorted, middle + 1, high);
+        node.height = Math.max(node.left == null ? -1 : node.left.height,
+                node.right == null ? -1 : node.right.height) + 1;
+        return node;
+    }
+
+    /**
+     * Move every item of other into this tree in O(log n). Every item of other
+     * must be at least as large as every item of this tree; other ends up empty.
+     *
+     * @param other the tree holding the larger items.
+     * @throws IllegalArgumentException if the items of the trees overlap.
+     */
+    public void join(AVLTree<AnyType> other) {
+        if (other == this || other.isEmpty())
+            return;
+        if (!isEmpty() && findMax().compareTo(other.findMin()) > 0)
+            throw new IllegalArgumentException("Items of the joined tree must not be smaller");
+        if (isEmpty()) {
+            root = other.root;
+        } else {
+            // take our largest node out and use it to hang the two trees from
+            AvlNode<AnyType> pivot = findMax(root);
+            root = removeMax(root);
+            root = join(root, pivot, other.root);
+        }
+        other.root = null;
+    }
+
+    /**
+     * Move every item that is not smaller than key into a new tree, in O(log n).
+     *
+     * @param key where to split.
+     * @return a tree holding the items >= key; this tree keeps the items < key.
+     */
+    public AVLTree<AnyType> split(AnyType key) {
+        SplitNodes<AnyType> parts = split(root, key);
+        root = parts.smaller;
+        AVLTree<AnyType> larger = new AVLTree<>();
+        larger.root = parts.larger;
+        return larger;
+    }
+
+    /**
+     * Internal method to split a subtree by key.
+     *
+     * @param t the node that roots the subtree.
+     * @return roots of the items < key and of the items >= key.
+     */
+    private SplitNodes<AnyType> split(AvlNode<AnyType> t, AnyType key) {
+        if (t == null)
+            return new SplitNodes<>(null, null);
+        AvlNode<AnyType> left = t.left;
+        AvlNode<AnyType> right = t.right;
+        if (key.compareTo(t.element) <= 0) {
+            SplitNodes<AnyType> parts = split(left, key);
+            parts.larger = join(parts.larger, t, right);
+            return parts;
+        } else {
+            SplitNodes<AnyType> parts = split(right, key);
+            parts.smaller = join(left, t, parts.smaller);
+            return parts;
+        }
+    }
+
+    /**
+     * Internal method to join two subtrees with a pivot node between them.
+     * Items in left are <= pivot.element <= items in right.
+     *
+     * @return the root of the joined subtree.
+     */
+    private AvlNode<AnyType> join(AvlNode<AnyType> left, AvlNode<AnyType> pivot, AvlNode<AnyType> right) {
+        if (height(left) > height(right) + 1) {
+            left.right = join(left.right, pivot, right);
+            return balance(left);
+        } else if (height(right) > height(left) + 1) {
+            right.left = join(left, pivot, right.left);
+            return balance(right);
+        }
+        pivot.left = left;
+        pivot.right = right;
+        pivot.height = Math.max(height(left), height(right)) + 1;
+        return pivot;
+    }
+
+    /**
+     * Internal method to remove the largest item from a subtree.
+     *
+     * @param t the node that roots the subtree.
+     * @return the new root of the subtree.
+     */
+    private AvlNode<AnyType> removeMax(AvlNode<AnyType> t) {
+        if (t.right == null)
+            return t.left;
+        t.right = removeMax(t.right);
+        return balance(t);
+    }
+
     /**
      * @param value the item to insert.
      */
@@ -119,38 +251,30 @@ public class AVLTree<AnyType extends Comparable<? super AnyType>> {
         return false;   // No match
     }
 
-    // use the strategy from the youtube video
-    // delete Min by taking the minimum node and another node and switching
-    // node = min
-    // node = other
-    // other.element = min.element, other.left = min.left, other.right = min.right
-    // balance the tree
-
+    /**
+     * Remove the smallest item from the tree.
+     *
+     * @return the smallest item, or null if empty.
+     */
     public AnyType deleteMin() {
-        NodeInfo<AnyType> data = deleteMin(root);
-        root = data.newRoot;
-        AnyType deletedPartial = data.element;
-        balance(root);
-        return deletedPartial;
-    }
-
-    private NodeInfo<AnyType> deleteMin(AvlNode<AnyType> t) {
-        NodeInfo<AnyType> returnData = new NodeInfo<>(null, null);
-
-        if(t == null){
-            returnData.element = null;
-            returnData.newRoot = null;
-        } else if(t.left == null){
-            returnData.element = t.element;
-            returnData.newRoot = t.right;
-        } else if(t.left.left == null){
-            returnData.element = t.left.element;
-            t.left = t.left.right;
-            returnData.newRoot = t;
-        } else{
-            return deleteMin(t.left);
-        }
-        return returnData;
+        if (isEmpty())
+            return null;
+        AnyType min = findMin(root).element;
+        root = deleteMin(root);
+        return min;
+    }
+
+    /**
+     * Internal method to remove the smallest item from a subtree.
+     *
+     * @param t the node that roots the subtree.
+     * @return the new root of the subtree.
+     */
+    private AvlNode<AnyType> deleteMin(AvlNode<AnyType> t) {
+        if (t.left == null)
+            return t.right;
+        t.left = deleteMin(t.left);
+        return balance(t);
     }
 
     /**
@@ -219,6 +343,15 @@ public class AVLTree<AnyType extends Comparable<? super AnyType>> {
         return root == null;
     }
 
+    /**
+     * Height of the whole tree.
+     *
+     * @return height of the root, or -1 if empty.
+     */
+    public int height() {
+        return height(root);
+    }
+
     /**
      * Print the tree contents in sorted order.
      */
@@ -263,20 +396,34 @@ public class AVLTree<AnyType extends Comparable<? super AnyType>> {
         return t;
     }
 
-    public void checkBalance() {
-        checkBalance(root);
+    /**
+     * Check that no node's subtrees differ in height by more than one and that
+     * every stored height is right, printing a warning at the first bad node.
+     * @return true if the tree is balanced.
+     */
+    public boolean checkBalance() {
+        return checkBalance(root) != -2;
     }
 
+    /**
+     * Internal method to check the balance of a subtree.
+     * @param parent the node that roots the subtree.
+     * @return the height of the subtree, or -2 if it is out of balance.
+     */
     private int checkBalance(AvlNode<AnyType> parent) {
         if (parent == null) {
             return -1;
-        } else {
-            int heightLeft = checkBalance(parent.left);
-            int heightRight = checkBalance(parent.right);
-            if (Math.abs(height(parent.left) - height(parent.right)) > 1 || height(parent.left) != heightLeft || height(parent.right) != heightRight)
-                System.out.println("\n\n***********************OOPS!!");
         }
-        return height(parent);
+        int heightLeft = checkBalance(parent.left);
+        int heightRight = checkBalance(parent.right);
+        if (heightLeft == -2 || heightRight == -2) {
+            return -2;  // already reported lower down
+        }
+        if (Math.abs(heightLeft - heightRight) > 1 || parent.height != Math.max(heightLeft, heightRight) + 1) {
+            System.out.println("\n\n***********************OOPS!!");
+            return -2;
+        }
+        return parent.height;
     }
 
     /**
@@ -356,13 +503,13 @@ public class AVLTree<AnyType extends Comparable<? super AnyType>> {
         int height;       // Height
     }
 
-    private static class NodeInfo<AnyType>{
-        AnyType element;
-        AvlNode<AnyType> newRoot;
+    private static class SplitNodes<AnyType> {
+        AvlNode<AnyType> smaller;  // root of the items below the key
+        AvlNode<AnyType> larger;   // root of the items at or above the key
 
-        NodeInfo(AnyType element, AvlNode<AnyType> n){
-            this.element = element;
-            this.newRoot = n;
+        SplitNodes(AvlNode<AnyType> smaller, AvlNode<AnyType> larger) {
+            this.smaller = smaller;
+            this.larger = larger;
         }
     }
 
@@ -0,0 +1,108 @@
+import java.util.Arrays;
+
+/**
+ * Open set kept in an AVL tree. Entries are ordered by priority and then by
+ * insertion order, so equal priorities come out first in first out like BucketQueue.
+ * The pooled version keeps its tree in a PooledAVLTree and reuses entries after
+ * deleteMin, so it stops allocating once it has grown to the size of the search.
+ */
+public class AvlOpenSet implements OpenSet {
+    private AVLTree<Entry> tree;              // null when pooled
+    private PooledAVLTree<Entry> pooledTree;  // null when not pooled
+    private Entry[] spare = new Entry[0];     // entries taken out of the pooled tree, ready for reuse
+    private int spareCount;
+    private int counter;
+    private long sequence;  // insertion order, keeps entries distinct
+
+    public AvlOpenSet() {
+        this(false);
+    }
+
+    /**
+     * @param pooled  Use a PooledAVLTree and reuse entries instead of an AVLTree
+     */
+    public AvlOpenSet(boolean pooled) {
+        if (pooled) {
+            pooledTree = new PooledAVLTree<>();
+        } else {
+            tree = new AVLTree<>();
+        }
+    }
+
+    public void insert(int node, int priority) {
+        Entry entry;
+        if (spareCount > 0) {
+            entry = spare[--spareCount];
+            entry.node = node;
+            entry.priority = priority;
+            entry.sequence = sequence++;
+        } else {
+            entry = new Entry(node, priority, sequence++);
+        }
+
+        if (tree != null) {
+            tree.insert(entry);
+        } else {
+            pooledTree.insert(entry);
+        }
+        counter++;
+    }
+
+    public int deleteMin() {
+        if (counter == 0) {
+            return -1;
+        }
+        counter--;
+        if (tree != null) {
+            return tree.deleteMin().node;
+        }
+
+        Entry entry = pooledTree.deleteMin();
+        if (spareCount == spare.length) {
+            spare = Arrays.copyOf(spare, Math.max(16, spare.length * 2));
+        }
+        spare[spareCount++] = entry;
+        return entry.node;
+    }
+
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    public int size() {
+        return counter;
+    }
+
+    public int height() {
+        return (tree != null) ? tree.height() : pooledTree.height();
+    }
+
+    public void makeEmpty() {
+        if (tree != null) {
+            tree.makeEmpty();
+        } else {
+            pooledTree.makeEmpty();
+        }
+        counter = 0;
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        int node;
+        int priority;
+        long sequence;
+
+        Entry(int node, int priority, long sequence) {
+            this.node = node;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
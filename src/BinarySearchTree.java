@@ -1,7 +1,9 @@
 import java.lang.Comparable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 
 
-public class BinarySearchTree <E extends Comparable> {
+public class BinarySearchTree <E extends Comparable<? super E>> {
     public TreeNode root;
 
     /** SEE WHETHER A CERTAIN VALUE EXISTS IN THE TREE **/
@@ -115,6 +117,24 @@ public class BinarySearchTree <E extends Comparable> {
         return true;
     }
 
+    /** COPY THE WORDS INTO A READ-ONLY ARRAY TREE THAT DOESN'T DEPEND ON INSERT ORDER **/
+    public FrozenSearchTree<E> freeze() {
+        // in order walk with an explicit stack, so a lopsided tree can't overflow the call stack
+        ArrayList<E> sorted = new ArrayList<>();
+        ArrayDeque<TreeNode> stack = new ArrayDeque<>();
+        TreeNode node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            sorted.add(node.value);
+            node = node.right;
+        }
+        return new FrozenSearchTree<>(sorted);
+    }
+
     private class TreeNode {
         public E value;
         public TreeNode left;
@@ -0,0 +1,103 @@
+import java.util.Arrays;
+
+/**
+ * Bucket (Dial's) priority queue for small non-negative integer priorities.
+ * bucket[p] holds every node queued with priority p, so insert and deleteMin
+ * are O(1) array operations and never compare two nodes.
+ * Ties are broken first in first out, or last in first out if asked for.
+ */
+public class BucketQueue implements OpenSet {
+    private int[][] buckets;  // nodes waiting at each priority
+    private int[] heads;      // index of the next node to take from each bucket
+    private int[] tails;      // index one past the last node in each bucket
+    private int min;          // no bucket below this one has nodes in it
+    private int counter;
+    private boolean lifo;
+
+    public BucketQueue(boolean lifo) {
+        this.lifo = lifo;
+        buckets = new int[32][];
+        heads = new int[32];
+        tails = new int[32];
+        min = buckets.length;
+    }
+
+    public void insert(int node, int priority) {
+        if (priority < 0) {
+            throw new IllegalArgumentException("Negative priority " + priority);
+        }
+        if (priority >= buckets.length) {
+            growBuckets(priority + 1);
+        }
+
+        int[] bucket = buckets[priority];
+        if (bucket == null) {
+            bucket = buckets[priority] = new int[8];
+        } else if (tails[priority] == bucket.length) {
+            // slide the live part to the front, and double it if it is more than half full
+            int live = tails[priority] - heads[priority];
+            int[] moved = (live * 2 > bucket.length) ? new int[bucket.length * 2] : bucket;
+            System.arraycopy(bucket, heads[priority], moved, 0, live);
+            bucket = buckets[priority] = moved;
+            heads[priority] = 0;
+            tails[priority] = live;
+        }
+        bucket[tails[priority]++] = node;
+
+        if (priority < min) {
+            min = priority;
+        }
+        counter++;
+    }
+
+    public int deleteMin() {
+        if (counter == 0) {
+            return -1;
+        }
+        while (heads[min] == tails[min]) {
+            min++;
+        }
+
+        int node;
+        if (lifo) {
+            node = buckets[min][--tails[min]];
+        } else {
+            node = buckets[min][heads[min]++];
+        }
+        if (heads[min] == tails[min]) {  // reuse the bucket from the start next time
+            heads[min] = 0;
+            tails[min] = 0;
+        }
+        counter--;
+        return node;
+    }
+
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    public int size() {
+        return counter;
+    }
+
+    public int height() {
+        return 0;
+    }
+
+    public void makeEmpty() {
+        Arrays.fill(heads, 0);
+        Arrays.fill(tails, 0);
+        min = buckets.length;
+        counter = 0;
+    }
+
+    private void growBuckets(int needed) {
+        int newLength = Math.max(needed, buckets.length * 2);
+        if (min == buckets.length) {
+            min = newLength;
+        }
+        buckets = Arrays.copyOf(buckets, newLength);
+        heads = Arrays.copyOf(heads, newLength);
+        tails = Arrays.copyOf(tails, newLength);
+    }
+}
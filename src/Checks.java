@@ -0,0 +1,40 @@
+/**
+ * Bookkeeping shared by the Test* drivers, which cross-check the solvers and data
+ * structures on seeded random data. Every failed check is counted and printed, and
+ * finish exits with status 1 if any failed, so the build's check task fails too.
+ */
+public class Checks {
+    static int failures = 0;
+
+    /** COUNT AND PRINT A CHECK THAT DID NOT HOLD **/
+    static void check(boolean ok, String message) {
+        if (!ok) {
+            failures++;
+            System.out.println("FAILED: " + message);
+        }
+    }
+
+    /** A FOUND LADDER RUNS FROM startWord TO endWord ONE LETTER AT A TIME **/
+    static void checkLadder(LadderResult result, String startWord, String endWord) {
+        if (result.found()) {
+            checkLadder(result.ladder, startWord, endWord);
+        }
+    }
+
+    static void checkLadder(String[] ladder, String startWord, String endWord) {
+        String joined = String.join(" ", ladder);
+        check(ladder[0].equals(startWord) && ladder[ladder.length - 1].equals(endWord),
+                "ladder " + joined + " doesn't join " + startWord + " and " + endWord);
+        for (int i = 1; i < ladder.length; i++) {
+            check(LadderInfo.lettersAway(ladder[i - 1], ladder[i]) == 1, "ladder " + joined + " has a bad step");
+        }
+    }
+
+    /** PRINT THE SUMMARY WITH THE FAILURE COUNT AND EXIT WITH STATUS 1 IF ANY CHECK FAILED **/
+    static void finish(String summary) {
+        System.out.println(summary + ", " + failures + " failures");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
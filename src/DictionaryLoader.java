@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+/**
+ * Reads a word list with one word per line straight from bytes. Lines are split on
+ * '\n', spaces, tabs and '\r' are trimmed from both ends, upper case ASCII is lowered
+ * in place and each word goes directly into the list for its length. Lines that are
+ * not a single word of ASCII letters are skipped and reported in malformedLines
+ * instead of stopping the load.
+ */
+public class DictionaryLoader {
+    static final int BLOCK_SIZE = 1 << 16;  // bytes read at a time when streaming
+
+    ArrayList<String>[] lists;        // words of each length, in file order
+    ArrayList<String> malformedLines; // "line N: text" for every line that was skipped
+    private int maxWordSize;
+    private int lineNumber;           // lines seen so far
+
+    DictionaryLoader(int maxWordSize) {
+        this.maxWordSize = maxWordSize;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArrayList<String>[] empty = new ArrayList[maxWordSize];
+        lists = empty;
+        for (int i = 0; i < maxWordSize; i++) {
+            lists[i] = new ArrayList<>();
+        }
+        malformedLines = new ArrayList<>();
+    }
+
+    /**
+     * Read a word list in fixed size blocks, carrying a partial last line over to the next block
+     * @param fileName  Word list to read
+     * @param maxWordSize  Words this long or longer are left out
+     */
+    public static DictionaryLoader load(String fileName, int maxWordSize) throws IOException {
+        DictionaryLoader loader = new DictionaryLoader(maxWordSize);
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                endOfFile = channel.read(buffer) < 0;
+                int end = buffer.position();
+                int done = loader.readLines(buffer.array(), 0, end, endOfFile);
+
+                if (done == 0 && end == buffer.capacity()) {
+                    // one line is longer than the whole buffer, make room for the rest of it
+                    ByteBuffer bigger = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    bigger.put(buffer);
+                    buffer = bigger;
+                } else {
+                    // keep the unfinished last line at the front for the next read
+                    buffer.flip();
+                    buffer.position(done);
+                    buffer.compact();
+                }
+            }
+        }
+        return loader;
+    }
+
+    /**
+     * Read a word list by mapping it and splitting it into chunks on line boundaries,
+     * reading every chunk on the common ForkJoinPool and joining the lists in file order
+     * @param fileName  Word list to read
+     * @param maxWordSize  Words this long or longer are left out
+     * @param chunks  Number of pieces to split the file into
+     */
+    public static DictionaryLoader loadParallel(String fileName, int maxWordSize, int chunks) throws IOException {
+        byte[] bytes;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(fileName + " is too large to load");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            bytes = new byte[(int) channel.size()];
+            mapped.get(bytes);
+        }
+
+        // chunk c covers bytes starts[c] until starts[c + 1], always just after a '\n'
+        chunks = Math.max(1, Math.min(chunks, bytes.length / 4096 + 1));
+        int[] starts = new int[chunks + 1];
+        starts[chunks] = bytes.length;
+        for (int c = 1; c < chunks; c++) {
+            int start = Math.max(starts[c - 1], (int) ((long) bytes.length * c / chunks));
+            while (start < bytes.length && start > 0 && bytes[start - 1] != '\n') {
+                start++;
+            }
+            starts[c] = start;
+        }
+
+        DictionaryLoader[] parts = new DictionaryLoader[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            parts[c] = new DictionaryLoader(maxWordSize);
+            parts[c].readLines(bytes, starts[c], starts[c + 1], true);
+        });
+
+        DictionaryLoader loader = new DictionaryLoader(maxWordSize);
+        for (DictionaryLoader part : parts) {
+            for (int len = 0; len < maxWordSize; len++) {
+                loader.lists[len].addAll(part.lists[len]);
+            }
+            for (String line : part.malformedLines) {
+                // renumber the chunk's lines to line numbers in the whole file
+                int colon = line.indexOf(':');
+                int number = Integer.parseInt(line.substring(5, colon)) + loader.lineNumber;
+                loader.malformedLines.add("line " + number + line.substring(colon));
+            }
+            loader.lineNumber += part.lineNumber;
+        }
+        return loader;
+    }
+
+    /**
+     * Split bytes[from, to) into lines and file each one
+     * @param last  True if there is no more input after to, so a line without '\n' is complete
+     * @return  index just after the last complete line
+     */
+    private int readLines(byte[] bytes, int from, int to, boolean last) {
+        int lineStart = from;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                addLine(bytes, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (last && lineStart < to) {
+            addLine(bytes, lineStart, to);
+            lineStart = to;
+        }
+        return lineStart;
+    }
+
+    /** CHECK ONE LINE, LOWER CASE IT IN PLACE AND ADD IT TO ITS LENGTH LIST **/
+    private void addLine(byte[] bytes, int start, int end) {
+        lineNumber++;
+        while (start < end && isSpace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isSpace(bytes[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return;  // blank lines are allowed
+        }
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= 'A' && b <= 'Z') {
+                bytes[i] = (byte) (b | 0x20);
+            } else if (b < 'a' || b > 'z') {
+                malformedLines.add("line " + lineNumber + ": "
+                        + new String(bytes, start, end - start, StandardCharsets.ISO_8859_1));
+                return;
+            }
+        }
+        int length = end - start;
+        if (length < maxWordSize) {
+            lists[length].add(new String(bytes, start, length, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /** ASCII WHITESPACE, TRIMMED FROM BOTH ENDS OF A LINE LIKE Scanner DID **/
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
@@ -0,0 +1,217 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary snapshot of a loaded dictionary and the neighbor graph of every word length,
+ * so later runs can map the file and use it without reading the text word list.
+ *
+ * Layout (big endian): MAGIC, VERSION, MaxWordSize, then for every length
+ * count, count * length bytes of words, count + 1 offsets, edge count, edges,
+ * count component numbers and the component count.
+ */
+public class DictionarySnapshot {
+    static final int MAGIC = 0x4C414452;  // "LADR"
+    static final int VERSION = 1;
+
+    /**
+     * Tells whether a file starts like a snapshot, so it is not read as a word list
+     * @param fileName  File to look at
+     */
+    public static boolean isSnapshot(String fileName) {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            return channel.read(header, 0) == 4 && header.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the words and neighbor graph of every length to a snapshot file
+     * @param game  Game whose dictionary is saved, every graph gets built if it wasn't yet
+     * @param fileName  File to create or replace
+     */
+    public static void write(LadderGame game, String fileName) throws IOException {
+        WordGraph[] graphs = new WordGraph[LadderGame.MaxWordSize];
+        long size = 12;
+        for (int len = 0; len < graphs.length; len++) {
+            graphs[len] = inListOrder(game.graph(len), game.allList[len]);
+            WordGraph graph = graphs[len];
+            size += 4 + (long) graph.size() * len + 4L * (graph.size() + 1) + 4 + 4L * graph.edges.length
+                    + 4L * graph.size() + 4;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Dictionary too large for a snapshot");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(LadderGame.MaxWordSize);
+        for (int len = 0; len < graphs.length; len++) {
+            WordGraph graph = graphs[len];
+            buffer.putInt(graph.size());
+            for (String word : graph.words) {
+                byte[] bytes = word.getBytes(StandardCharsets.ISO_8859_1);
+                if (bytes.length != len) {
+                    throw new IOException("Word can not be stored in one byte per letter: " + word);
+                }
+                buffer.put(bytes);
+            }
+            buffer.asIntBuffer().put(graph.offsets);
+            buffer.position(buffer.position() + 4 * graph.offsets.length);
+            buffer.putInt(graph.edges.length);
+            buffer.asIntBuffer().put(graph.edges);
+            buffer.position(buffer.position() + 4 * graph.edges.length);
+            buffer.asIntBuffer().put(graph.component);
+            buffer.position(buffer.position() + 4 * graph.component.length);
+            buffer.putInt(graph.componentCount);
+        }
+        buffer.flip();
+
+        Path path = Paths.get(fileName);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * The graph with its ids in word list order. addWord and removeWord give new and moved
+     * words the ids at the end, but read fills the word lists in id order and they have to
+     * come back in alpha order, so an edited graph is built again from the list.
+     */
+    private static WordGraph inListOrder(WordGraph graph, List<String> list) {
+        if (graph.size() == list.size()) {
+            boolean same = true;
+            for (int id = 0; id < graph.size() && same; id++) {
+                same = graph.words[id].equals(list.get(id));
+            }
+            if (same) {
+                return graph;
+            }
+        }
+        return new WordGraph(new ArrayList<>(list));
+    }
+
+    /**
+     * Maps a snapshot file and fills in the word lists and graphs of a game with it.
+     * The arrays are copied straight out of the mapping, nothing is tokenized.
+     * @param game  Game with empty word lists
+     * @param fileName  Snapshot made by write
+     */
+    public static void read(LadderGame game, String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            need(buffer, 12, fileName);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(fileName + " is not a dictionary snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + fileName);
+            }
+            int maxWordSize = buffer.getInt();
+            if (maxWordSize != LadderGame.MaxWordSize) {
+                throw new IOException("Snapshot was made for words shorter than " + maxWordSize);
+            }
+
+            byte[] letters = new byte[0];
+            for (int len = 0; len < maxWordSize; len++) {
+                int count = getCount(buffer, len + 8, fileName);  // every word also has an offset and a component
+                String[] words = new String[count];
+                if (letters.length < count * len) {
+                    letters = new byte[count * len];
+                }
+                buffer.get(letters, 0, count * len);
+                for (int id = 0; id < count; id++) {
+                    words[id] = new String(letters, id * len, len, StandardCharsets.ISO_8859_1);
+                    if (!PackedWord.packable(words[id])) {
+                        throw corrupt(fileName);
+                    }
+                }
+                int[] offsets = getInts(buffer, count + 1, fileName);
+                int[] edges = getInts(buffer, getCount(buffer, 4, fileName), fileName);
+                int[] component = getInts(buffer, count, fileName);
+                need(buffer, 4, fileName);
+                int componentCount = buffer.getInt();
+                check(offsets, edges, component, componentCount, fileName);
+
+                game.graphs.set(len, new WordGraph(words, offsets, edges, component, componentCount));
+                game.allList[len].addAll(Arrays.asList(words));
+            }
+            if (buffer.hasRemaining()) {
+                throw corrupt(fileName);
+            }
+        }
+    }
+
+    /** BULK COPY THE NEXT count INTS OUT OF THE BUFFER **/
+    private static int[] getInts(ByteBuffer buffer, int count, String fileName) throws IOException {
+        need(buffer, 4L * count, fileName);
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+
+    /**
+     * Read a count and check it is not negative and that the buffer still holds
+     * bytesEach bytes for every item it counts
+     */
+    private static int getCount(ByteBuffer buffer, int bytesEach, String fileName) throws IOException {
+        need(buffer, 4, fileName);
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw corrupt(fileName);
+        }
+        need(buffer, (long) count * bytesEach, fileName);
+        return count;
+    }
+
+    /** THROW IF FEWER THAN bytes BYTES ARE LEFT **/
+    private static void need(ByteBuffer buffer, long bytes, String fileName) throws IOException {
+        if (buffer.remaining() < bytes) {
+            throw corrupt(fileName);
+        }
+    }
+
+    /**
+     * Check that a graph read back is well formed, so a damaged file fails here
+     * instead of inside a search
+     */
+    private static void check(int[] offsets, int[] edges, int[] component, int componentCount, String fileName)
+            throws IOException {
+        if (offsets[0] != 0 || offsets[offsets.length - 1] != edges.length) {
+            throw corrupt(fileName);
+        }
+        for (int id = 0; id + 1 < offsets.length; id++) {
+            if (offsets[id + 1] < offsets[id]) {
+                throw corrupt(fileName);
+            }
+        }
+        for (int to : edges) {
+            if (to < 0 || to >= component.length) {
+                throw corrupt(fileName);
+            }
+        }
+        for (int c : component) {
+            if (c < 0 || c >= componentCount) {
+                throw corrupt(fileName);
+            }
+        }
+    }
+
+    private static IOException corrupt(String fileName) {
+        return new IOException(fileName + " is truncated or corrupt");
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Read-only search tree stored as a sorted array in breadth first (Eytzinger) order:
+ * the root is at index 1 and the children of index k are at 2k and 2k + 1. Searching
+ * walks down one contiguous array doing one compareTo per level, and the shape is
+ * always perfectly balanced no matter what order the items came in.
+ * The top levels of the tree sit next to each other at the front of the array,
+ * so they stay in cache between searches.
+ */
+public class FrozenSearchTree <E extends Comparable<? super E>> {
+    private E[] tree;  // tree[1..size], tree[0] is unused
+    private int size;
+
+    /**
+     * Freeze items that are already sorted with no duplicates
+     * @param sorted  Items in increasing order
+     */
+    FrozenSearchTree(ArrayList<E> sorted) {
+        size = sorted.size();
+        @SuppressWarnings("unchecked")  // only ever holds items of sorted
+        E[] items = (E[]) new Comparable<?>[size + 1];
+        tree = items;
+        fill(sorted, 0, 1);
+    }
+
+    /** FREEZE ANY COLLECTION; IT IS SORTED AND DUPLICATES ARE DROPPED FIRST **/
+    public static <E extends Comparable<? super E>> FrozenSearchTree<E> of(Collection<? extends E> items) {
+        ArrayList<E> sorted = new ArrayList<>(items);
+        Collections.sort(sorted);
+        ArrayList<E> distinct = new ArrayList<>(sorted.size());
+        for (E item : sorted) {
+            if (distinct.isEmpty() || distinct.get(distinct.size() - 1).compareTo(item) != 0) {
+                distinct.add(item);
+            }
+        }
+        return new FrozenSearchTree<>(distinct);
+    }
+
+    /** SEE WHETHER A CERTAIN VALUE EXISTS IN THE TREE **/
+    public boolean search(E search) {
+        // go right whenever the node is smaller, never stopping early
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (tree[k].compareTo(search) < 0 ? 1 : 0);
+        }
+        // undo the right turns made after the last left turn; that node is the first >= search
+        k >>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && tree[k].compareTo(search) == 0;
+    }
+
+    /** NUMBER OF ITEMS IN THE TREE **/
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Put sorted items into the array by walking the implicit tree in order
+     * @param next  Index in sorted of the next item to place
+     * @param k  Array index of the subtree being filled
+     * @return  index in sorted after this subtree
+     */
+    private int fill(ArrayList<E> sorted, int next, int k) {
+        if (k <= size) {
+            next = fill(sorted, next, 2 * k);
+            tree[k] = sorted.get(next++);
+            next = fill(sorted, next, 2 * k + 1);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,90 @@
+import java.util.NoSuchElementException;
+
+/**
+ * First in first out queue of ints in a growable circular array. Unlike LinkedList
+ * nothing is allocated per enqueue and values are not boxed; the array only grows
+ * (doubling) when it is full, and clear keeps it for the next search.
+ */
+public class IntRingQueue {
+    private int[] items;
+    private int head = 0;     // index of the first item
+    private int counter = 0;  // number of items
+
+    public IntRingQueue() {
+        this(16);
+    }
+
+    public IntRingQueue(int capacity) {
+        items = new int[Math.max(capacity, 2)];
+    }
+
+    /** ADD AN ITEM TO THE END OF THE QUEUE **/
+    public void enqueue(int value) {
+        if (counter == items.length) {
+            grow(counter + 1);
+        }
+        items[(head + counter) % items.length] = value;
+        counter++;
+    }
+
+    /** ADD values[from, to) TO THE END OF THE QUEUE IN ORDER **/
+    public void enqueueAll(int[] values, int from, int to) {
+        int count = to - from;
+        if (counter + count > items.length) {
+            grow(counter + count);
+        }
+        int tail = (head + counter) % items.length;
+        int first = Math.min(count, items.length - tail);  // room before the array wraps
+        System.arraycopy(values, from, items, tail, first);
+        System.arraycopy(values, from + first, items, 0, count - first);
+        counter += count;
+    }
+
+    /** REMOVE THE FIRST ITEM IN THE QUEUE AND RETURN IT **/
+    public int dequeue() {
+        if (counter == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int value = items[head];
+        head = (head + 1 == items.length) ? 0 : head + 1;
+        counter--;
+        return value;
+    }
+
+    /** FIRST ITEM IN THE QUEUE, LEFT IN PLACE **/
+    public int peek() {
+        if (counter == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return items[head];
+    }
+
+    /** NUMBER OF ITEMS IN THE QUEUE **/
+    public int size() {
+        return counter;
+    }
+
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    /** REMOVE EVERY ITEM BUT KEEP THE ARRAY **/
+    public void clear() {
+        head = 0;
+        counter = 0;
+    }
+
+    /** COPY THE ITEMS, IN ORDER, TO THE FRONT OF A BIGGER ARRAY **/
+    private void grow(int needed) {
+        int newLength = items.length;
+        while (newLength < needed) {
+            newLength *= 2;
+        }
+        int[] bigger = new int[newLength];
+        int first = Math.min(counter, items.length - head);
+        System.arraycopy(items, head, bigger, 0, first);
+        System.arraycopy(items, 0, bigger, first, counter - first);
+        items = bigger;
+        head = 0;
+    }
+}
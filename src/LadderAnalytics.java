@@ -0,0 +1,240 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Shortest ladder statistics for all the words of one length: the eccentricity of every
+ * word (its longest shortest ladder), the diameter and the hardest pairs. Breadth first
+ * searches run 64 at a time, one bit of a long per starting word (multi-source BFS), so
+ * one pass over the edges moves all 64 frontiers a level. Batches of 64 run in parallel.
+ *
+ * Usage: java LadderAnalytics [dictionary file] [hardest pairs per length] [length ...]
+ */
+public class LadderAnalytics {
+    static final int BATCH = 64;
+
+    WordGraph graph;
+    int[] eccentricity;       // most moves from each word to any word it can reach
+    int diameter;             // largest eccentricity
+    int[] eccentricityCounts; // eccentricityCounts[e] = words with eccentricity e
+    ArrayList<Pair> hardest;  // pairs with the longest shortest ladders, longest first
+    int[] order;              // word ids grouped by component, so a batch's sources share components
+    int[] componentStart;     // words of component c are order[componentStart[c]] .. order[componentStart[c + 1] - 1]
+
+    /** TWO WORDS AND THE MOVES IN A SHORTEST LADDER BETWEEN THEM **/
+    public static class Pair {
+        public final String startWord;
+        public final String endWord;
+        public final int moves;
+
+        Pair(String startWord, String endWord, int moves) {
+            this.startWord = startWord;
+            this.endWord = endWord;
+            this.moves = moves;
+        }
+
+        public String toString() {
+            return startWord + " -> " + endWord + " (" + moves + " moves)";
+        }
+    }
+
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int topK = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+        LadderGame game = new LadderGame(dictionaryFileName);
+
+        ArrayList<Integer> lengths = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            lengths.add(Integer.parseInt(args[i]));
+        }
+        if (lengths.isEmpty()) {
+            for (int len = 1; len < LadderGame.MaxWordSize; len++) {
+                lengths.add(len);
+            }
+        }
+
+        for (int len : lengths) {
+            WordGraph graph = game.graph(len);
+            if (graph.size() == 0) {
+                continue;
+            }
+            long start = System.nanoTime();
+            LadderAnalytics analytics = new LadderAnalytics(graph, topK);
+            System.out.println("Length " + len + ": " + graph.size() + " words, diameter " + analytics.diameter
+                    + " (" + (System.nanoTime() - start) / 1000000 + " ms)");
+            StringBuilder histogram = new StringBuilder("  eccentricity:");
+            for (int e = 0; e < analytics.eccentricityCounts.length; e++) {
+                if (analytics.eccentricityCounts[e] > 0) {
+                    histogram.append(' ').append(e).append('=').append(analytics.eccentricityCounts[e]);
+                }
+            }
+            System.out.println(histogram);
+            for (Pair pair : analytics.hardest) {
+                System.out.println("  " + pair);
+            }
+        }
+    }
+
+    /**
+     * Run a breadth first search from every word of the graph
+     * @param graph  Words of one length
+     * @param topK  Number of hardest pairs to keep
+     */
+    public LadderAnalytics(WordGraph graph, int topK) {
+        this.graph = graph;
+        int n = graph.size();
+        eccentricity = new int[n];
+        groupByComponent();
+        int batches = (n + BATCH - 1) / BATCH;
+        List<PriorityQueue<Long>> kept = IntStream.range(0, batches).parallel()
+                .mapToObj(b -> searchBatch(b * BATCH, Math.min(n, b * BATCH + BATCH), topK))
+                .collect(Collectors.toList());
+
+        for (int id = 0; id < n; id++) {
+            diameter = Math.max(diameter, eccentricity[id]);
+        }
+        eccentricityCounts = new int[diameter + 1];
+        for (int id = 0; id < n; id++) {
+            eccentricityCounts[eccentricity[id]]++;
+        }
+
+        // every pair was found by exactly one batch, so the best of each batch hold the best overall
+        PriorityQueue<Long> best = new PriorityQueue<>();
+        for (PriorityQueue<Long> batch : kept) {
+            for (long pair : batch) {
+                keep(best, pair, topK);
+            }
+        }
+        ArrayList<Long> sorted = new ArrayList<>(best);
+        sorted.sort(Collections.reverseOrder());
+        hardest = new ArrayList<>();
+        for (long pair : sorted) {
+            hardest.add(new Pair(graph.word(first(pair)), graph.word(second(pair)), moves(pair)));
+        }
+    }
+
+    /**
+     * Breadth first searches from the words order[first] .. order[end - 1] at once. Bit i of
+     * seen[id] is set once word order[first + i] has reached id, and frontier[id] holds the bits
+     * that reached id on the last level. Only the components of those words are scanned.
+     * Fills in the eccentricity of those words.
+     * @return  the topK hardest pairs (a, b) with a one of the sources and a < b
+     */
+    private PriorityQueue<Long> searchBatch(int first, int end, int topK) {
+        int n = graph.size();
+        long[] seen = new long[n];
+        long[] frontier = new long[n];
+        long[] next = new long[n];
+        for (int i = first; i < end; i++) {
+            seen[order[i]] = frontier[order[i]] = 1L << (i - first);
+        }
+
+        // the sources' components are one run of order[], and so are each component's sources
+        int lo = componentStart[graph.component[order[first]]];
+        int hi = componentStart[graph.component[order[end - 1]] + 1];
+        long[] sourcesInComponent = new long[hi - lo];  // bits that can ever reach order[p], by p - lo
+        for (int p = lo; p < hi; ) {
+            int c = graph.component[order[p]];
+            int from = Math.max(first, componentStart[c]) - first;
+            int to = Math.min(end, componentStart[c + 1]) - first;
+            long bits = ((to == BATCH) ? -1L : (1L << to) - 1) & -(1L << from);
+            for (; p < componentStart[c + 1]; p++) {
+                sourcesInComponent[p - lo] = bits;
+            }
+        }
+        PriorityQueue<Long> kept = new PriorityQueue<>();
+
+        for (int level = 1; ; level++) {
+            // every word pulls in the bits its neighbors got last level that it hasn't seen
+            long reached = 0;
+            for (int p = lo; p < hi; p++) {
+                int id = order[p];
+                long missing = sourcesInComponent[p - lo] & ~seen[id];
+                long bits = 0;
+                if (missing != 0) {
+                    for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                        bits |= frontier[graph.edges[e]];
+                    }
+                    bits &= missing;
+                    seen[id] |= bits;
+                }
+                next[id] = bits;
+                reached |= bits;
+            }
+            if (reached == 0) {
+                break;
+            }
+
+            // every source with a bit set this level reaches some word in level moves
+            for (long bits = reached; bits != 0; bits &= bits - 1) {
+                eccentricity[order[first + Long.numberOfTrailingZeros(bits)]] = level;
+            }
+            if (topK > 0 && (kept.size() < topK || level >= moves(kept.peek()))) {
+                for (int p = lo; p < hi; p++) {
+                    int id = order[p];
+                    for (long bits = next[id]; bits != 0; bits &= bits - 1) {
+                        int source = order[first + Long.numberOfTrailingZeros(bits)];
+                        if (source < id) {
+                            keep(kept, pack(source, id, level), topK);
+                        }
+                    }
+                }
+            }
+
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+        return kept;
+    }
+
+    /** FILL IN order AND componentStart WITH A COUNTING SORT ON COMPONENT NUMBER **/
+    private void groupByComponent() {
+        componentStart = new int[graph.componentCount + 1];
+        for (int id = 0; id < graph.size(); id++) {
+            componentStart[graph.component[id] + 1]++;
+        }
+        for (int c = 0; c < graph.componentCount; c++) {
+            componentStart[c + 1] += componentStart[c];
+        }
+        order = new int[graph.size()];
+        int[] fill = Arrays.copyOf(componentStart, graph.componentCount);
+        for (int id = 0; id < graph.size(); id++) {
+            order[fill[graph.component[id]]++] = id;
+        }
+    }
+
+    /** ADD A PAIR TO A MIN HEAP OF THE topK LARGEST **/
+    private static void keep(PriorityQueue<Long> kept, long pair, int topK) {
+        if (kept.size() < topK) {
+            kept.add(pair);
+        } else if (pair > kept.peek()) {
+            kept.poll();
+            kept.add(pair);
+        }
+    }
+
+    /**
+     * A pair as one long that is larger for more moves, then for smaller ids,
+     * so the order never depends on which batch finished first
+     */
+    private static long pack(int a, int b, int moves) {
+        return ((long) moves << 48) | ((long) (~a & 0xFFFFFF) << 24) | (~b & 0xFFFFFF);
+    }
+
+    private static int moves(long pair) {
+        return (int) (pair >>> 48);
+    }
+
+    private static int first(long pair) {
+        return ~(int) (pair >>> 24) & 0xFFFFFF;
+    }
+
+    private static int second(long pair) {
+        return ~(int) pair & 0xFFFFFF;
+    }
+}
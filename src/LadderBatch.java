@@ -0,0 +1,122 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solves a stream of word pairs without the interactive prompts. Pairs are read one
+ * per line ("start end"), solved a window at a time on all cores, and written in input
+ * order through one buffered writer, so memory stays the same however long the input is.
+ *
+ * Every output line is tab separated: start, end, moves (-1 if there is no ladder),
+ * then the ladder words separated by spaces, or the reason the pair could not be searched.
+ *
+ * Usage: java LadderBatch [dictionary file] [pairs file, or - for stdin] [solver] [window]
+ */
+public class LadderBatch {
+    static final int DEFAULT_WINDOW = 4096;  // pairs read before solving them together
+
+    public static void main(String[] args) throws IOException {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        String pairsFileName = (args.length > 1) ? args[1] : "-";
+        Solver solver = (args.length > 2) ? Solver.valueOf(args[2].toUpperCase()) : Solver.BIDIRECTIONAL;
+        int window = (args.length > 3) ? Integer.parseInt(args[3]) : DEFAULT_WINDOW;
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        BufferedReader in = pairsFileName.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : new BufferedReader(new FileReader(pairsFileName));
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        try {
+            long count = run(game, in, out, solver, window);
+            System.err.println("Solved " + count + " pairs");
+        } finally {
+            in.close();
+            out.flush();
+        }
+    }
+
+    /**
+     * Solve every pair in the input and write one line for each
+     * @param game  Dictionary to solve with
+     * @param in  Lines of "start end", blank lines are skipped
+     * @param out  Where the results go, the caller flushes it
+     * @param solver  Which search to run
+     * @param window  Pairs solved together, in parallel
+     * @return  number of lines written
+     */
+    public static long run(LadderGame game, BufferedReader in, Writer out, Solver solver, int window)
+            throws IOException {
+        ArrayList<WordPair> pairs = new ArrayList<>(window);
+        long count = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] words = line.split("\\s+");
+            if (words.length == 2) {
+                pairs.add(new WordPair(words[0].toLowerCase(), words[1].toLowerCase()));
+            } else {
+                pairs.add(new WordPair(line, null));  // written out as a problem below
+            }
+            if (pairs.size() == window) {
+                count += solveWindow(game, pairs, out, solver);
+            }
+        }
+        count += solveWindow(game, pairs, out, solver);
+        return count;
+    }
+
+    /** SOLVE THE WAITING PAIRS, WRITE THEM IN ORDER AND EMPTY THE LIST **/
+    private static int solveWindow(LadderGame game, ArrayList<WordPair> pairs, Writer out, Solver solver)
+            throws IOException {
+        ArrayList<WordPair> valid = new ArrayList<>(pairs.size());
+        for (WordPair pair : pairs) {
+            if (pair.endWord != null) {
+                valid.add(pair);
+            }
+        }
+        List<LadderResult> results = game.solveAll(valid, solver);
+
+        int next = 0;
+        for (WordPair pair : pairs) {
+            if (pair.endWord == null) {
+                // the line may hold tabs, which would break the columns
+                out.write(pair.startWord.replaceAll("\\s+", " ") + "\t\t-1\tExpected two words\n");
+            } else {
+                write(results.get(next++), out);
+            }
+        }
+        int written = pairs.size();
+        pairs.clear();
+        return written;
+    }
+
+    /** ONE TAB SEPARATED LINE FOR A RESULT **/
+    static void write(LadderResult result, Writer out) throws IOException {
+        out.write(result.startWord);
+        out.write('\t');
+        out.write(result.endWord);
+        out.write('\t');
+        out.write(Integer.toString(result.moves()));
+        out.write('\t');
+        if (result.found()) {
+            for (int i = 0; i < result.ladder.length; i++) {
+                if (i > 0) {
+                    out.write(' ');
+                }
+                out.write(result.ladder[i]);
+            }
+        } else if (result.problem != null) {
+            out.write(result.problem);
+        }
+        out.write('\n');
+    }
+}
@@ -1,38 +1,231 @@
 import java.util.Objects;
 import java.util.Scanner;
 import java.util.Random;
-import java.io.File;
 import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 
 public class LadderGame {
     static int MaxWordSize = 15;  //Max legnth word allowed
     ArrayList<String>[] allList;  // Array of ArrayLists of words of each length.
+    AtomicReferenceArray<WordGraph> graphs;  // neighbor graph for each word length, built when first needed
+    AtomicReferenceArray<PackedWordSet> dictionaries;  // lookup set for each word length, built when first needed
+    OpenSetType openSetType = OpenSetType.BUCKET;  // open set used by A*
+    SolverStatsListener statsListener;  // told about every search, may be null
+    volatile int landmarkCount = 0;  // landmarks per length for A*, 0 to use letters away only
+    AtomicReferenceArray<Landmarks> landmarks;  // landmark distances for each word length, built when first needed
+    int parallelThreshold = 1024;  // frontier size where Solver.PARALLEL_BFS starts splitting a level
+    PathTreeCache pathCache = new PathTreeCache(1 << 23);  // shortest path trees for Solver.CACHED
     Random random;  // Random number generator
+    ArrayList<String> malformedLines = new ArrayList<>();  // dictionary lines that were not a word
     /**
      *  Creates separate ArrayLists for words of each length
      * @param dictionaryFileName  Contains all words to be used in word ladder in 
-    alpha order
+    alpha order, or is a snapshot made by writeSnapshot
      */
     public LadderGame(String dictionaryFileName) {
+        this(dictionaryFileName, false);
+    }
+
+    /**
+     *  Creates separate ArrayLists for words of each length
+     * @param dictionaryFileName  Contains all words to be used in word ladder, one per line in
+    alpha order, or is a snapshot made by writeSnapshot
+     * @param parallelLoad  Split a word list into chunks and read them on several threads
+     */
+    public LadderGame(String dictionaryFileName, boolean parallelLoad) {
         random = new Random();
 
         // build an array list where each item is another array list
         allList = new ArrayList[MaxWordSize];
         for (int i = 0; i < MaxWordSize; i++)
             allList[i] = new ArrayList<String>();
+        graphs = new AtomicReferenceArray<>(MaxWordSize);
+        dictionaries = new AtomicReferenceArray<>(MaxWordSize);
+        landmarks = new AtomicReferenceArray<>(MaxWordSize);
 
         // read the dictionary and add each word to its corresponding word length list
         try {
-            Scanner reader = new Scanner(new File(dictionaryFileName));
-            while (reader.hasNext()) {
-                String word = reader.next().toLowerCase();
-                if (word.length() < MaxWordSize){
-                    allList[word.length()].add(word);
+            if (DictionarySnapshot.isSnapshot(dictionaryFileName)) {
+                DictionarySnapshot.read(this, dictionaryFileName);
+                return;
+            }
+            DictionaryLoader loader = parallelLoad
+                    ? DictionaryLoader.loadParallel(dictionaryFileName, MaxWordSize, Runtime.getRuntime().availableProcessors())
+                    : DictionaryLoader.load(dictionaryFileName, MaxWordSize);
+            allList = loader.lists;
+            malformedLines = loader.malformedLines;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read dictionary " + dictionaryFileName, e);
+        }
+
+        if (!malformedLines.isEmpty()) {
+            System.err.println("Skipped " + malformedLines.size() + " malformed lines in " + dictionaryFileName
+                    + ", first one was " + malformedLines.get(0));
+        }
+    }
+
+    /**
+     * Save the dictionary and the neighbor graph of every length, so later games can
+     * be made from the file without reading the word list again
+     * @param snapshotFileName  File to write, can be passed to the constructor later
+     */
+    public void writeSnapshot(String snapshotFileName) throws IOException {
+        DictionarySnapshot.write(this, snapshotFileName);
+    }
+
+    /**
+     * Neighbor graph for the words of one length, built the first time it is needed.
+     * Graphs are never changed once built, so after that this takes no lock.
+     * @param len  Length of the words in the graph
+     */
+    WordGraph graph(int len) {
+        WordGraph graph = graphs.get(len);
+        if (graph == null) {
+            synchronized (this) {  // build it once, against the current word list
+                graph = graphs.get(len);
+                if (graph == null) {
+                    graph = new WordGraph(allList[len]);
+                    graphs.set(len, graph);
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Lookup set for the words of one length, built once and shared read-only by every play.
+     * A word is packed into longs and found with one hash probe sequence.
+     * @param len  Length of the words in the set
+     */
+    PackedWordSet dictionary(int len) {
+        PackedWordSet set = dictionaries.get(len);
+        if (set == null) {
+            synchronized (this) {
+                set = dictionaries.get(len);
+                if (set == null) {
+                    set = PackedWordSet.of(allList[len]);
+                    dictionaries.set(len, set);
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        return set;
+    }
+
+    /**
+     * Add a word to the game without reading the dictionary again. The length's
+     * list, lookup set and graph are replaced by updated copies, so searches that
+     * are running keep the ones they started with. Landmarks and cached path trees
+     * of that length are dropped and rebuilt when next needed.
+     * @param word  Letters only, it is lower cased like dictionary lines
+     * @return  false if the word was already there
+     */
+    public synchronized boolean addWord(String word) {
+        word = checkWord(word);
+        int len = word.length();
+        if (dictionary(len).contains(word)) {
+            return false;
+        }
+
+        ArrayList<String> list = new ArrayList<>(allList[len].size() + 1);
+        list.addAll(allList[len]);
+        int at = Collections.binarySearch(list, word);
+        list.add((at < 0) ? -at - 1 : at, word);  // keep alpha order
+        allList[len] = list;
+
+        PackedWordSet set = dictionary(len).copy();
+        set.add(word);
+        dictionaries.set(len, set);
+        WordGraph graph = graphs.get(len);
+        if (graph != null) {
+            graphs.set(len, graph.withWord(word));
+        }
+        wordsChanged(len);
+        return true;
+    }
+
+    /**
+     * Take a word out of the game without reading the dictionary again, the same way
+     * addWord puts one in
+     * @param word  Letters only, it is lower cased like dictionary lines
+     * @return  false if the word was not there
+     */
+    public synchronized boolean removeWord(String word) {
+        word = checkWord(word);
+        int len = word.length();
+        if (!dictionary(len).contains(word)) {
+            return false;
+        }
+
+        ArrayList<String> list = new ArrayList<>(allList[len]);
+        list.removeIf(word::equals);
+        allList[len] = list;
+
+        PackedWordSet set = dictionary(len).copy();
+        set.remove(word);
+        dictionaries.set(len, set);
+        WordGraph graph = graphs.get(len);
+        if (graph != null) {
+            graphs.set(len, graph.withoutWord(graph.indexOf(word)));
+        }
+        wordsChanged(len);
+        return true;
+    }
+
+    /** LOWER CASE A WORD FOR addWord OR removeWord, OR THROW IF IT CAN'T BE IN THE GAME **/
+    private static String checkWord(String word) {
+        String lower = word.toLowerCase();
+        if (lower.length() >= MaxWordSize || !PackedWord.packable(lower)) {
+            throw new IllegalArgumentException("Not a word of 1 to " + (MaxWordSize - 1) + " letters: " + word);
+        }
+        return lower;
+    }
+
+    /** DROP WHAT WAS WORKED OUT FROM THE OLD WORDS OF ONE LENGTH **/
+    private void wordsChanged(int len) {
+        landmarks.set(len, null);
+        pathCache.invalidate(len);
+    }
+
+    /**
+     * Make A* estimate the moves left with landmark distances as well as letters away.
+     * Each length gets its landmarks the first time A* searches words of that length.
+     * @param count  Landmarks per word length, 0 to go back to letters away only
+     */
+    public synchronized void useLandmarks(int count) {
+        landmarkCount = count;
+        for (int len = 0; len < MaxWordSize; len++) {
+            landmarks.set(len, null);
+        }
+    }
+
+    /**
+     * Landmarks for the words of one length, or null if A* doesn't use them
+     * or a word has been added or removed since graph was handed out.
+     * They are built without holding the game's lock, so two searches may both
+     * build them the first time; the first one stored is kept.
+     * @param graph  Graph the search runs on
+     * @param len  Length of the words
+     */
+    Landmarks landmarks(WordGraph graph, int len) {
+        int count = landmarkCount;
+        if (count <= 0 || graph != graph(len)) {
+            return null;
+        }
+        Landmarks built = landmarks.get(len);
+        if (built != null && built.graph == graph && built.landmarks.length == Math.min(count, graph.size())) {
+            return built;
+        }
+        Landmarks fresh = new Landmarks(graph, count);
+        landmarks.compareAndSet(len, built, fresh);
+        return fresh;
     }
 
     /**
@@ -57,7 +250,7 @@ public class LadderGame {
             System.out.print("Second word: ");
             endWord = grabber.nextLine().toLowerCase();
 
-            play(startWord, endWord);
+            play(startWord, endWord, Solver.ASTAR, Solver.BRUTE_FORCE, Solver.BIDIRECTIONAL);
 
         } else if (inputType == 2) {  // PICK RANDOM WORDS
             int column = 1;
@@ -74,7 +267,7 @@ public class LadderGame {
                 endWord = allList[column].get((int) (Math.random() * colLength));
             } while (Objects.equals(startWord, endWord));
 
-            play(startWord, endWord);
+            play(startWord, endWord, Solver.ASTAR, Solver.BRUTE_FORCE, Solver.BIDIRECTIONAL);
 
         } else {  // TRY AGAIN TO GET WORDS
             System.out.println("Invalid type: did not enter (1) or (2)");
@@ -83,162 +276,529 @@ public class LadderGame {
     }
 
     public void play(String startWord, String endWord){
-        if (startWord.length() != endWord.length()){
-            System.out.println("Words are not the same length");
-            return;
-        } else if (startWord.length()  >= MaxWordSize){
-            System.out.println("The words are too long");
-            return;
-        } else if (startWord.length() <= 0){
-            System.out.println("Words must be have at least one letter");
+        play(startWord, endWord, Solver.ASTAR, Solver.BRUTE_FORCE);
+    }
+
+    /**
+     * Find a word ladder with each of the given solvers and print what they found
+     * @param startWord  Beginning word of word ladder
+     * @param endWord  Ending word on word ladder
+     * @param solvers  Solvers to run, one after the other
+     */
+    public void play(String startWord, String endWord, Solver... solvers){
+        String problem = checkLengths(startWord, endWord);
+        if (problem != null){
+            System.out.println(problem);
             return;
         }
 
         System.out.println("*********************************************************************");
         System.out.println("Seeking a solution from " + startWord + " -> " + endWord + " Size of List " + allList[startWord.length()].size());
-        System.out.println();
-        System.out.println("A* Solution:");
-        aStarPlay(startWord, endWord);
-        System.out.println();
-        System.out.println("Brute Force Solution:");
-        bruteForcePlay(startWord, endWord);
+        for (Solver solver : solvers){
+            System.out.println();
+            System.out.println(solver.title + " Solution:");
+            System.out.println(solve(startWord, endWord, solver));
+        }
     }
 
-    private void aStarPlay(String startWord, String endWord){
-        BinarySearchTree<String> dictionary = new BinarySearchTree<>();
-        java.util.Collections.shuffle(allList[startWord.length()], new java.util.Random(System.currentTimeMillis()));
-        for(String word : allList[startWord.length()]){
-            dictionary.insert(word);
-        }
-
-        int numEnqueues = 0;
-
-        AVLTree<LadderInfo> priorityQ = new AVLTree<>();
-        priorityQ.insert(new LadderInfo(endWord, 0, startWord));
-        numEnqueues++;
-
-        boolean done = false;
-
-        while(!priorityQ.isEmpty() && !done){
-            LadderInfo info = priorityQ.deleteMin();
-
-            String[] words = info.ladder.split(" ");
-            String lastWord = words[words.length - 1];
-            char[] word = lastWord.toCharArray();  // holds original word for reference
-            char[] dynamicWord = lastWord.toCharArray();  // will change in the for loops below
-
-            // CHECK FOR EVERY POSSIBLE WORD PATH
-            for(int i = 0; i < dynamicWord.length; i++){  // change each letter of word one at a time
-                for(int j = (int)'a'; j <= (int)'z'; j++){  // go through entire alphabet
-                    // split and recombine one-letter-off words
-                    dynamicWord[i] = (char)j;
-                    String checkWord = String.valueOf(dynamicWord);
-
-                    if(dictionary.search(checkWord)){
-                        // ADD TO QUEUE IF VALID WORD
-                        LadderInfo newLadder = new LadderInfo(endWord, info.moves + 1, info.ladder + " " + checkWord);
-                        String[] pastWords = info.ladder.split(" ");
-                        boolean alreadyDone = false;
-                        for(int k = 0; k < pastWords.length; k++){
-                            if(checkWord.equals(pastWords[k])){
-                                alreadyDone = true;
-                            }
-                        }
-                        if(!alreadyDone){
-                            priorityQ.insert(newLadder);
-                            numEnqueues++;
-                        }
-
-                        // IF FOUND, PRINT TO SCREEN
-                        if(checkWord.equals(endWord)){
-                            System.out.println(newLadder);
-                            System.out.println("Total enqueues: " + numEnqueues + "\n");
-                            priorityQ.makeEmpty();
-                            done = true;
-                            return;
-                        }
-                    }
-                }
-                dynamicWord[i] = word[i];
-            }
+    /**
+     * Every shortest ladder between two words, counted without listing them
+     * @param startWord  Beginning word of every ladder
+     * @param endWord  Ending word of every ladder
+     * @throws IllegalArgumentException  if the words can't have a ladder, with the reason
+     */
+    public ShortestLadders shortestLadders(String startWord, String endWord){
+        String problem = checkLengths(startWord, endWord);
+        if (problem != null){
+            throw new IllegalArgumentException(problem);
+        }
+        WordGraph graph = graph(startWord.length());
+        int startId = graph.indexOf(startWord);
+        int endId = graph.indexOf(endWord);
+        if (startId < 0 || endId < 0){
+            throw new IllegalArgumentException("Words do not both exist in the dictionary");
         }
+        return new ShortestLadders(graph, startId, endId);
     }
 
     /**
-     * Given starting and ending words, create a word ladder of minimal length.
+     * Find a word ladder without printing anything. Only reads the shared dictionary,
+     * so it can be called from several threads at once.
      * @param startWord  Beginning word of word ladder
      * @param endWord  Ending word on word ladder
+     * @param solver  Which search to run
+     * @return  the ladder found, or why there is none
      */
-    private void bruteForcePlay(String startWord, String endWord) {
-        // make a bst of all the words of the correct length
-        BinarySearchTree<String> dictTree = new BinarySearchTree<>();
-        java.util.Collections.shuffle(allList[startWord.length()], new java.util.Random(System.currentTimeMillis()));
-        for(String word : allList[startWord.length()]){
-            dictTree.insert(word);
+    public LadderResult solve(String startWord, String endWord, Solver solver){
+        long begin = System.nanoTime();
+        LadderResult result = new LadderResult(startWord, endWord, solver);
+        search(result);
+
+        // whatever wasn't the search itself was setup
+        result.stats.setupNanos = System.nanoTime() - begin - result.stats.searchNanos;
+        if (statsListener != null){
+            statsListener.solved(result);
         }
+        return result;
+    }
 
-        if (!dictTree.search(startWord) || !dictTree.search(endWord)){
-            System.out.println("Words do not both exist in the dictionary");
+    /**
+     * Set how wide a breadth first level has to be before Solver.PARALLEL_BFS splits it across threads
+     * @param threshold  Words in the frontier, levels smaller than this are expanded on one thread
+     */
+    public void setParallelThreshold(int threshold){
+        parallelThreshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Aggregate the stats of every search from now on, null to stop
+     * @param listener  Told about each search as it finishes, on the thread that ran it
+     */
+    public void setStatsListener(SolverStatsListener listener){
+        statsListener = listener;
+    }
+
+    /** CHECK THE WORDS OF A RESULT AND RUN ITS SOLVER **/
+    private void search(LadderResult result){
+        String startWord = result.startWord;
+        String endWord = result.endWord;
+        result.problem = checkLengths(startWord, endWord);
+        if (result.problem != null){
             return;
         }
 
-        LinkedList<LadderInfo> queue = new LinkedList<>();
-        findLadder(dictTree, queue, startWord, endWord);
-    }
+        PackedWordSet dictSet = dictionary(startWord.length());
+        if (!dictSet.contains(startWord) || !dictSet.contains(endWord)){
+            result.problem = "Words do not both exist in the dictionary";
+            return;
+        }
 
-    private static void findLadder(BinarySearchTree<String> dictionary, LinkedList<LadderInfo> partials, String startWord, String endWord){
-        int numEnqueues = 0;
+        WordGraph graph = graph(startWord.length());
+        int startId = graph.indexOf(startWord);
+        int endId = graph.indexOf(endWord);
+        if (startId < 0 || endId < 0){
+            // removeWord took one of them out since the dictionary was checked
+            result.problem = "Words do not both exist in the dictionary";
+            return;
+        }
 
         // special case
-        if(Objects.equals(startWord, endWord)){
-            LadderInfo ladder = new LadderInfo(startWord, 0, startWord);
-            System.out.println(ladder);
+        if (startId == endId){
+            result.setPath(new int[] {startId}, graph);
             return;
         }
 
+        // words in different components can never be joined, so don't search
+        if (!graph.connected(startId, endId)){
+            return;
+        }
+
+        long searchStart = System.nanoTime();
+        switch (result.solver){
+            case ASTAR:
+                aStar(graph, landmarks(graph, startWord.length()), openSetType.create(), startId, endId, result);
+                break;
+            case BRUTE_FORCE:
+                findLadder(graph, new IntRingQueue(64), startId, endId, result);
+                break;
+            case BIDIRECTIONAL:
+                findLadderBidirectional(graph, startId, endId, result);
+                break;
+            case CACHED:
+                findLadderCached(graph, pathCache, startId, endId, result);
+                break;
+            case PARALLEL_BFS:
+                findLadderParallel(graph, parallelThreshold, startId, endId, result);
+                break;
+        }
+        result.stats.searchNanos = System.nanoTime() - searchStart;
+    }
+
+    /**
+     * Solve many pairs of words in parallel on the common ForkJoinPool
+     * using the bidirectional solver.
+     * @param pairs  Starting and ending words to find ladders between
+     * @return  one result for each pair, in the same order as pairs
+     */
+    public List<LadderResult> solveAll(List<WordPair> pairs){
+        return solveAll(pairs, Solver.BIDIRECTIONAL);
+    }
+
+    /**
+     * Solve many pairs of words in parallel on the common ForkJoinPool. Every search
+     * gets its own queue and visited arrays and only reads the shared dictionary.
+     * @param pairs  Starting and ending words to find ladders between
+     * @param solver  Which search to run for each pair
+     * @return  one result for each pair, in the same order as pairs
+     */
+    public List<LadderResult> solveAll(List<WordPair> pairs, Solver solver){
+        LadderResult[] results = new LadderResult[pairs.size()];
+        IntStream.range(0, results.length).parallel().forEach(i ->
+                results[i] = solve(pairs.get(i).startWord, pairs.get(i).endWord, solver));
+        return Arrays.asList(results);
+    }
+
+    /** REASON TWO WORDS CAN NOT HAVE A LADDER BECAUSE OF THEIR LENGTHS, OR NULL **/
+    private static String checkLengths(String startWord, String endWord){
+        if (startWord.length() != endWord.length()){
+            return "Words are not the same length";
+        } else if (startWord.length()  >= MaxWordSize){
+            return "The words are too long";
+        } else if (startWord.length() <= 0){
+            return "Words must be have at least one letter";
+        }
+        return null;
+    }
+
+    /**
+     * A* search on moves so far + an estimate of the moves left: letters away from the end
+     * word, or the landmark bound when that is larger.
+     */
+    private static void aStar(WordGraph graph, Landmarks landmarks, OpenSet priorityQ, int startId, int endId, LadderResult result){
+        String endWord = graph.words[endId];
+        short[] endDistances = (landmarks == null) ? null : landmarks.targetDistances(endId);
+        SolverStats stats = result.stats;
+
+        // the open set only holds node numbers, the ladders themselves live in nodes
+        SearchNodes nodes = new SearchNodes(64);
+
+        // fewest moves any queued ladder has taken to reach each word
+        int[] bestMoves = new int[graph.size()];
+        Arrays.fill(bestMoves, Integer.MAX_VALUE);
+        bestMoves[startId] = 0;
+
+        priorityQ.insert(nodes.add(startId, 0, -1), estimate(graph, landmarks, endDistances, startId, endWord));
+        stats.enqueues++;
+
+        while(!priorityQ.isEmpty()){
+            stats.frontier(priorityQ.size());
+            stats.openSetHeight = Math.max(stats.openSetHeight, priorityQ.height());
+            int node = priorityQ.deleteMin();
+            stats.dequeues++;
+            int lastId = nodes.word[node];
+            int moves = nodes.moves[node] + 1;
+
+            // CHECK EVERY ONE-LETTER-OFF WORD IN THE DICTIONARY
+            for(int e = graph.offsets[lastId]; e < graph.offsets[lastId + 1]; e++){
+                int next = graph.edges[e];
+                stats.candidates++;
+
+                // ADD TO QUEUE IF NO OTHER LADDER GOT TO THIS WORD AS QUICKLY
+                if(moves < bestMoves[next]){
+                    stats.hits++;
+                    bestMoves[next] = moves;
+                    int newNode = nodes.add(next, moves, node);
+                    stats.enqueues++;
+
+                    // IF FOUND, RECORD IT
+                    if(next == endId){
+                        result.setPath(nodes.path(newNode), graph);
+                        priorityQ.makeEmpty();
+                        return;
+                    }
+                    priorityQ.insert(newNode, moves + estimate(graph, landmarks, endDistances, next, endWord));
+                } else {
+                    stats.misses++;
+                }
+            }
+        }
+    }
+
+    /** MOVES LEFT FROM A WORD TO THE END WORD, NEVER TOO HIGH **/
+    private static int estimate(WordGraph graph, Landmarks landmarks, short[] endDistances, int id, String endWord){
+        int lettersAway = LadderInfo.lettersAway(graph.words[id], endWord);
+        if (landmarks == null){
+            return lettersAway;
+        }
+        return Math.max(lettersAway, landmarks.lowerBound(id, endDistances));
+    }
+
+    /**
+     * Breadth first search from the starting word, giving a ladder of minimal length.
+     */
+    private static void findLadder(WordGraph graph, IntRingQueue partials, int startId, int endId, LadderResult result){
+        SolverStats stats = result.stats;
+
+        // words already put in a ladder, so each one is only used once
+        boolean[] used = new boolean[graph.size()];
+        SearchNodes nodes = new SearchNodes(64);
+
         // set initial partial ladder
-        dictionary.remove(startWord);
-        partials.enqueue(new LadderInfo(startWord, 0, startWord));
-        numEnqueues++;
-
-        boolean done = false;
-
-        while((partials.size() > 0) && (!done)){
-            LadderInfo info = partials.dequeue();
-
-            char[] word = info.word.toCharArray();  // holds original word for reference
-            char[] dynamicWord = info.word.toCharArray();  // will change in the for loops below
-
-            // CHECK FOR EVERY POSSIBLE WORD PATH
-            for(int i = 0; i < dynamicWord.length; i++){  // change each letter of word one at a time
-                for(int j = (int)'a'; j <= (int)'z'; j++){  // go through entire alphabet
-                    // split and recombine one-letter-off words
-                    dynamicWord[i] = (char)j;
-                    String checkWord = String.valueOf(dynamicWord);
-
-                    if(dictionary.search(checkWord)){
-                        dictionary.remove(checkWord);
-
-                        // ADD TO QUEUE IF VALID WORD
-                        LadderInfo newLadder = new LadderInfo(checkWord, info.moves + 1, info.ladder + " " + checkWord);
-                        partials.enqueue(newLadder);
-                        numEnqueues++;
-
-                        // IF FOUND, PRINT TO SCREEN
-                        if(checkWord.equals(endWord)){
-                            System.out.println(newLadder);
-                            System.out.println("Total enqueues: " + numEnqueues + "\n");
-                            return;
+        used[startId] = true;
+        partials.enqueue(nodes.add(startId, 0, -1));
+        stats.enqueues++;
+
+        while(partials.size() > 0){
+            stats.frontier(partials.size());
+            int node = partials.dequeue();
+            stats.dequeues++;
+            int id = nodes.word[node];
+
+            // CHECK EVERY ONE-LETTER-OFF WORD IN THE DICTIONARY
+            for(int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++){
+                int next = graph.edges[e];
+                stats.candidates++;
+
+                if(!used[next]){
+                    stats.hits++;
+                    used[next] = true;
+
+                    // ADD TO QUEUE IF VALID WORD
+                    int newNode = nodes.add(next, nodes.moves[node] + 1, node);
+                    partials.enqueue(newNode);
+                    stats.enqueues++;
+
+                    // IF FOUND, RECORD IT
+                    if(next == endId){
+                        result.setPath(nodes.path(newNode), graph);
+                        return;
+                    }
+                } else {
+                    stats.misses++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Level synchronous breadth first search. A level smaller than threshold is expanded on this
+     * thread; a wider one is cut into pieces that ForkJoin workers expand at the same time. Workers
+     * claim a word by compare-and-set on its parent slot, so each word joins the next level once,
+     * and the pieces are joined into the next frontier. Stopping at the level that reaches the end
+     * word keeps the ladder minimal.
+     */
+    private static void findLadderParallel(WordGraph graph, int threshold, int startId, int endId, LadderResult result){
+        SolverStats stats = result.stats;
+
+        // parent id + 1 of every claimed word, 0 while unclaimed
+        AtomicIntegerArray parent = new AtomicIntegerArray(graph.size());
+        parent.set(startId, startId + 1);
+        int[] frontier = {startId};
+        stats.enqueues++;
+
+        while(frontier.length > 0 && parent.get(endId) == 0){
+            stats.frontier(frontier.length);
+            int pieces = 1;
+            if(frontier.length >= threshold){
+                pieces = Math.min(frontier.length / Math.max(1, threshold / 4) + 1,
+                        4 * ForkJoinPool.getCommonPoolParallelism());
+            }
+
+            // each piece returns the words it claimed; the last slot holds its candidate count
+            int[][] claimed = new int[pieces][];
+            int[] level = frontier;
+            int count = pieces;
+            if(pieces == 1){
+                claimed[0] = expandPiece(graph, parent, level, 0, level.length);
+            } else {
+                IntStream.range(0, pieces).parallel().forEach(p ->
+                        claimed[p] = expandPiece(graph, parent, level,
+                                (int) ((long) level.length * p / count), (int) ((long) level.length * (p + 1) / count)));
+            }
+
+            int nextSize = 0;
+            for(int[] piece : claimed){
+                nextSize += piece.length - 1;
+            }
+            int[] next = new int[nextSize];
+            int at = 0;
+            for(int[] piece : claimed){
+                System.arraycopy(piece, 0, next, at, piece.length - 1);
+                at += piece.length - 1;
+                stats.candidates += piece[piece.length - 1];
+            }
+            stats.dequeues += frontier.length;
+            stats.enqueues += nextSize;
+            stats.hits += nextSize;
+            frontier = next;
+        }
+        stats.misses = stats.candidates - stats.hits;
+
+        if(parent.get(endId) != 0){
+            int moves = 0;
+            for(int id = endId; id != startId; id = parent.get(id) - 1){
+                moves++;
+            }
+            int[] path = new int[moves + 1];
+            int id = endId;
+            for(int i = moves; i >= 0; i--){
+                path[i] = id;
+                id = parent.get(id) - 1;
+            }
+            result.setPath(path, graph);
+        }
+    }
+
+    /**
+     * Expand frontier[from, to) and claim every unclaimed neighbor
+     * @return  the claimed words, followed by one extra slot with the number of neighbors looked at
+     */
+    private static int[] expandPiece(WordGraph graph, AtomicIntegerArray parent,
+                                     int[] frontier, int from, int to){
+        int[] claimed = new int[16];
+        int count = 0;
+        int candidates = 0;
+        for(int f = from; f < to; f++){
+            int id = frontier[f];
+            for(int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++){
+                int next = graph.edges[e];
+                candidates++;
+                if(parent.get(next) == 0 && parent.compareAndSet(next, 0, id + 1)){
+                    if(count + 1 >= claimed.length){
+                        claimed = Arrays.copyOf(claimed, claimed.length * 2);
+                    }
+                    claimed[count++] = next;
+                }
+            }
+        }
+        claimed = Arrays.copyOf(claimed, count + 1);
+        claimed[count] = candidates;
+        return claimed;
+    }
+
+    /**
+     * Answer from a cached shortest path tree rooted at either word, or search the whole
+     * tree from the starting word and cache it. Walking the pred chain gives a minimal ladder.
+     */
+    private static void findLadderCached(WordGraph graph, PathTreeCache cache, int startId, int endId, LadderResult result){
+        int[] tree = cache.find(graph, graph.words[startId], graph.words[endId]);
+        if(tree == null){
+            tree = shortestPathTree(graph, startId, result.stats);
+            cache.put(graph, graph.words[startId], tree);
+        }
+
+        boolean fromStart = (tree[startId] == startId);  // else the tree is rooted at the end word
+        int id = fromStart ? endId : startId;
+        if(tree[id] < 0){
+            return;
+        }
+
+        // count the moves, then fill the ladder in from the right end
+        int moves = 0;
+        for(int i = id; tree[i] != i; i = tree[i]){
+            moves++;
+        }
+        int[] path = new int[moves + 1];
+        for(int i = 0; i <= moves; i++){
+            path[fromStart ? moves - i : i] = id;
+            id = tree[id];
+        }
+        result.setPath(path, graph);
+    }
+
+    /**
+     * Breadth first search over every word reachable from a root
+     * @return  pred array: pred[id] is the word before id on a shortest ladder from root,
+     *          pred[root] is root and -1 marks words with no ladder
+     */
+    static int[] shortestPathTree(WordGraph graph, int root, SolverStats stats){
+        int[] pred = new int[graph.size()];
+        Arrays.fill(pred, -1);
+        IntRingQueue queue = new IntRingQueue(64);
+        pred[root] = root;
+        queue.enqueue(root);
+        stats.enqueues++;
+        while(!queue.isEmpty()){
+            stats.frontier(queue.size());
+            int id = queue.dequeue();
+            stats.dequeues++;
+            for(int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++){
+                int next = graph.edges[e];
+                stats.candidates++;
+                if(pred[next] < 0){
+                    stats.hits++;
+                    pred[next] = id;
+                    queue.enqueue(next);
+                    stats.enqueues++;
+                } else {
+                    stats.misses++;
+                }
+            }
+        }
+        return pred;
+    }
+
+    /**
+     * Grows one breadth first frontier from each end, always expanding a whole level of
+     * the smaller one. Once a level touches the other side, the shortest ladder through
+     * any of the touching words is the minimal ladder.
+     */
+    private static void findLadderBidirectional(WordGraph graph, int startId, int endId, LadderResult result){
+        // distance and parent of every word seen from each side, -1 if not seen
+        int[][] dist = new int[2][graph.size()];
+        int[][] parent = new int[2][graph.size()];
+        Arrays.fill(dist[0], -1);
+        Arrays.fill(dist[1], -1);
+        int[][] frontier = {{startId}, {endId}};
+        int[] frontierSize = {1, 1};
+        dist[0][startId] = 0;
+        parent[0][startId] = -1;
+        dist[1][endId] = 0;
+        parent[1][endId] = -1;
+        SolverStats stats = result.stats;
+        stats.enqueues = 2;
+
+        int[] next = new int[16];
+        while(frontierSize[0] > 0 && frontierSize[1] > 0){
+            int side = (frontierSize[0] <= frontierSize[1]) ? 0 : 1;
+            int other = 1 - side;
+            int bestLength = Integer.MAX_VALUE;
+            int bestFrom = -1;
+            int bestTo = -1;
+            int nextSize = 0;
+
+            // EXPAND ONE WHOLE LEVEL OF THE SMALLER SIDE
+            for(int f = 0; f < frontierSize[side]; f++){
+                int id = frontier[side][f];
+                stats.dequeues++;
+                for(int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++){
+                    int to = graph.edges[e];
+                    stats.candidates++;
+                    if(dist[other][to] >= 0 && dist[side][id] + 1 + dist[other][to] < bestLength){
+                        bestLength = dist[side][id] + 1 + dist[other][to];
+                        bestFrom = id;
+                        bestTo = to;
+                    }
+                    if(dist[side][to] < 0){
+                        stats.hits++;
+                        dist[side][to] = dist[side][id] + 1;
+                        parent[side][to] = id;
+                        if(nextSize == next.length){
+                            next = Arrays.copyOf(next, next.length * 2);
                         }
+                        next[nextSize++] = to;
+                        stats.enqueues++;
+                    } else {
+                        stats.misses++;
                     }
                 }
-                dynamicWord[i] = word[i];
             }
+            stats.frontier(frontierSize[other] + nextSize);
+
+            // IF THE SIDES MET, JOIN THE TWO HALF LADDERS
+            if(bestFrom >= 0){
+                int[] path = new int[bestLength + 1];
+                int fromStart = (side == 0) ? bestFrom : bestTo;  // meeting edge, start side
+                int fromEnd = (side == 0) ? bestTo : bestFrom;    // meeting edge, end side
+                int i = dist[0][fromStart];
+                for(int id = fromStart; id >= 0; id = parent[0][id]){
+                    path[i--] = id;
+                }
+                i = dist[0][fromStart] + 1;
+                for(int id = fromEnd; id >= 0; id = parent[1][id]){
+                    path[i++] = id;
+                }
+                result.setPath(path, graph);
+                return;
+            }
+
+            int[] old = frontier[side];
+            frontier[side] = next;
+            frontierSize[side] = nextSize;
+            next = old;
         }
-        // IF NOT FOUND, PROVE REASONABLE ATTEMPT
-        System.out.println("Could not find a word ladder :(");
-        System.out.println("Total enqueues: " + numEnqueues + "\n");
     }
+
     /**
      * Find a word ladder between random words of length len
      * @param len  Length of words in desired word ladder
@@ -254,13 +814,6 @@ public class LadderGame {
         String startWord = list.get(random.nextInt(list.size()));
         String endWord = list.get(random.nextInt(list.size()));
 
-        System.out.println("*********************************************************************");
-        System.out.println("Seeking a solution from " + startWord + " -> " + endWord + " Size of List " + allList[startWord.length()].size());
-        System.out.println();
-        System.out.println("A* Solution:");
-        aStarPlay(startWord, endWord);
-        System.out.println();
-        System.out.println("Brute Force Solution:");
-        bruteForcePlay(startWord, endWord);
+        play(startWord, endWord);
     }
 }
\ No newline at end of file
@@ -26,12 +26,17 @@ public class LadderInfo implements Comparable <LadderInfo> {
     }
     private int lettersAway(LadderInfo path){
         String[] wordsSoFar = path.ladder.split(" ");
-        String lastWordStr = wordsSoFar[wordsSoFar.length - 1];
-        char[] firstWord = path.word.toCharArray();
-        char[] lastWord = lastWordStr.toCharArray();
+        return lettersAway(path.word, wordsSoFar[wordsSoFar.length - 1]);
+    }
+
+    /**
+     * Number of positions where two words of the same length have different letters.
+     * Every move changes one letter, so this never overestimates the moves left.
+     */
+    public static int lettersAway(String firstWord, String lastWord){
         int lettersAway = 0;
-        for(int i = 0; i < path.word.length(); i++){
-            if(firstWord[i] != lastWord[i]){
+        for(int i = 0; i < firstWord.length(); i++){
+            if(firstWord.charAt(i) != lastWord.charAt(i)){
                 lettersAway++;
             }
         }
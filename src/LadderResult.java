@@ -0,0 +1,50 @@
+/**
+ * What one solver found for one pair of words. Solvers fill this in instead of
+ * printing, so searches can run on several threads and the caller decides what
+ * to show.
+ */
+public class LadderResult {
+    public String startWord;
+    public String endWord;
+    public Solver solver;
+    public String[] ladder;   // words from startWord to endWord, or null if there is no ladder
+    public int[] path;        // WordGraph ids of the ladder words, or null if there is no ladder
+    public SolverStats stats = new SolverStats();  // what the search did and how long it took
+    public String problem;    // why the words could not be searched, or null
+
+    public LadderResult(String startWord, String endWord, Solver solver) {
+        this.startWord = startWord;
+        this.endWord = endWord;
+        this.solver = solver;
+    }
+
+    /** RECORD THE LADDER A SOLVER FOUND AS WORD IDS **/
+    void setPath(int[] path, WordGraph graph) {
+        this.path = path;
+        this.ladder = graph.toWords(path);
+    }
+
+    /** TRUE IF A LADDER WAS FOUND **/
+    public boolean found() {
+        return ladder != null;
+    }
+
+    /** NUMBER OF MOVES IN THE LADDER, OR -1 IF NONE WAS FOUND **/
+    public int moves() {
+        return (ladder == null) ? -1 : ladder.length - 1;
+    }
+
+    /** THE LADDER IN THE USUAL PRINTED FORM **/
+    public LadderInfo toLadderInfo() {
+        return new LadderInfo(ladder[ladder.length - 1], moves(), String.join(" ", ladder));
+    }
+
+    public String toString() {
+        if (problem != null) {
+            return problem;
+        } else if (ladder == null) {
+            return "Could not find a word ladder :(\nTotal enqueues: " + stats.enqueues + "\n";
+        }
+        return toLadderInfo() + "\nTotal enqueues: " + stats.enqueues + "\n";
+    }
+}
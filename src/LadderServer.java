@@ -0,0 +1,268 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves word ladders over HTTP on localhost from one LadderGame that is loaded once
+ * and only read after that. Each request gets its own (virtual, when the JDK has them)
+ * thread, and requests for the same words and solver that arrive while that search
+ * is still running wait for it instead of searching again.
+ *
+ *   GET /ladder?start=cat&end=dog[&solver=astar]  the ladder and its stats as JSON
+ *   GET /metrics                                 request counts and solver totals, one per line
+ *
+ * Usage: java LadderServer [dictionary file] [port] [default solver]
+ */
+public class LadderServer {
+    LadderGame game;
+    Solver defaultSolver;
+    HttpServer server;
+    ExecutorService executor;
+    SolverStatsAggregator solverStats = new SolverStatsAggregator();
+    ConcurrentHashMap<String, CompletableFuture<LadderResult>> inFlight = new ConcurrentHashMap<>();
+    LongAdder requests = new LongAdder();   // /ladder requests answered
+    LongAdder coalesced = new LongAdder();  // of those, ones that shared another request's search
+    LongAdder badRequests = new LongAdder();
+
+    public static void main(String[] args) throws IOException {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : 8080;
+        Solver solver = (args.length > 2) ? Solver.valueOf(args[2].toUpperCase()) : Solver.BIDIRECTIONAL;
+
+        LadderServer ladderServer = new LadderServer(new LadderGame(dictionaryFileName), port, solver);
+        ladderServer.start();
+        System.out.println("Listening on http://" + ladderServer.server.getAddress().getHostString()
+                + ":" + ladderServer.server.getAddress().getPort() + "/ladder");
+    }
+
+    /**
+     * Builds every dictionary set and neighbor graph up front, so no request pays for them
+     * @param game  Shared by every request, its stats listener is replaced with the server's
+     * @param port  Port on the loopback address, 0 for any free one
+     * @param defaultSolver  Used when a request doesn't name one
+     */
+    public LadderServer(LadderGame game, int port, Solver defaultSolver) throws IOException {
+        this.game = game;
+        this.defaultSolver = defaultSolver;
+        for (int len = 1; len < LadderGame.MaxWordSize; len++) {
+            game.dictionary(len);
+            game.graph(len);
+        }
+        game.setStatsListener(solverStats);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/ladder", this::handleLadder);
+        server.createContext("/metrics", this::handleMetrics);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+    }
+
+    /** START ANSWERING REQUESTS **/
+    public void start() {
+        server.start();
+    }
+
+    /** STOP THE SERVER, LETTING REQUESTS THAT ARE RUNNING FINISH FOR UP TO delaySeconds **/
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /** PORT THE SERVER IS LISTENING ON **/
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * A thread per request: virtual threads on JDKs that have them (21 and up),
+     * otherwise a cached pool of platform threads
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Solve a pair, or wait for the same search if another request already started it
+     * @return  the result, shared with every request that waited for it
+     */
+    LadderResult solve(String startWord, String endWord, Solver solver) {
+        String key = solver + " " + startWord + " " + endWord;
+        CompletableFuture<LadderResult> mine = new CompletableFuture<>();
+        CompletableFuture<LadderResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return running.join();
+        }
+        try {
+            mine.complete(game.solve(startWord, endWord, solver));
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine.join();
+    }
+
+    private void handleLadder(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                badRequests.increment();
+                send(exchange, 405, "application/json", "{\"error\":\"Use GET\"}");
+                return;
+            }
+            HashMap<String, String> query;
+            try {
+                query = parseQuery(exchange.getRequestURI().getRawQuery());
+            } catch (IllegalArgumentException e) {
+                // URLDecoder rejects bad percent escapes such as %2
+                badRequests.increment();
+                send(exchange, 400, "application/json", "{\"error\":\"Badly encoded query\"}");
+                return;
+            }
+            String startWord = query.get("start");
+            String endWord = query.get("end");
+            if (startWord == null || endWord == null) {
+                badRequests.increment();
+                send(exchange, 400, "application/json", "{\"error\":\"Give both start and end\"}");
+                return;
+            }
+            Solver solver = defaultSolver;
+            if (query.containsKey("solver")) {
+                try {
+                    solver = Solver.valueOf(query.get("solver").toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    badRequests.increment();
+                    send(exchange, 400, "application/json",
+                            "{\"error\":" + quote("Unknown solver " + query.get("solver")) + "}");
+                    return;
+                }
+            }
+
+            LadderResult result = solve(startWord.toLowerCase(), endWord.toLowerCase(), solver);
+            requests.increment();
+            send(exchange, 200, "application/json", toJson(result));
+        } catch (RuntimeException e) {
+            send(exchange, 500, "application/json", "{\"error\":" + quote(String.valueOf(e)) + "}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            StringBuilder metrics = new StringBuilder();
+            metrics.append("ladder_requests ").append(requests.sum()).append('\n');
+            metrics.append("ladder_requests_coalesced ").append(coalesced.sum()).append('\n');
+            metrics.append("ladder_requests_bad ").append(badRequests.sum()).append('\n');
+            metrics.append("ladder_searches_in_flight ").append(inFlight.size()).append('\n');
+            for (Solver solver : Solver.values()) {
+                SolverStats total = solverStats.total(solver);
+                String label = "{solver=\"" + solver.name().toLowerCase() + "\"} ";
+                metrics.append("solver_searches").append(label).append(solverStats.searches(solver)).append('\n');
+                metrics.append("solver_found").append(label).append(solverStats.found(solver)).append('\n');
+                metrics.append("solver_enqueues").append(label).append(total.enqueues).append('\n');
+                metrics.append("solver_candidates").append(label).append(total.candidates).append('\n');
+                metrics.append("solver_peak_frontier").append(label).append(total.peakFrontier).append('\n');
+                metrics.append("solver_setup_micros").append(label).append(total.setupNanos / 1000).append('\n');
+                metrics.append("solver_search_micros").append(label).append(total.searchNanos / 1000).append('\n');
+            }
+            send(exchange, 200, "text/plain; charset=utf-8", metrics.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /** A RESULT AS A JSON OBJECT **/
+    static String toJson(LadderResult result) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"start\":").append(quote(result.startWord))
+                .append(",\"end\":").append(quote(result.endWord))
+                .append(",\"solver\":").append(quote(result.solver.name().toLowerCase()))
+                .append(",\"found\":").append(result.found())
+                .append(",\"moves\":").append(result.moves())
+                .append(",\"ladder\":");
+        if (result.ladder == null) {
+            json.append("null");
+        } else {
+            json.append('[');
+            for (int i = 0; i < result.ladder.length; i++) {
+                json.append(i > 0 ? "," : "").append(quote(result.ladder[i]));
+            }
+            json.append(']');
+        }
+        SolverStats stats = result.stats;
+        json.append(",\"problem\":").append(result.problem == null ? "null" : quote(result.problem))
+                .append(",\"stats\":{\"enqueues\":").append(stats.enqueues)
+                .append(",\"dequeues\":").append(stats.dequeues)
+                .append(",\"candidates\":").append(stats.candidates)
+                .append(",\"hits\":").append(stats.hits)
+                .append(",\"misses\":").append(stats.misses)
+                .append(",\"peakFrontier\":").append(stats.peakFrontier)
+                .append(",\"openSetHeight\":").append(stats.openSetHeight)
+                .append(",\"setupMicros\":").append(stats.setupNanos / 1000)
+                .append(",\"searchMicros\":").append(stats.searchNanos / 1000)
+                .append("}}");
+        return json.toString();
+    }
+
+    /** A STRING AS A QUOTED JSON STRING **/
+    static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Name=value pairs of a raw query string, decoded; the last one wins if a name repeats
+     * @throws IllegalArgumentException  if a pair has a bad percent escape
+     */
+    static HashMap<String, String> parseQuery(String rawQuery) {
+        HashMap<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
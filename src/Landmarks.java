@@ -0,0 +1,129 @@
+import java.util.Arrays;
+
+/**
+ * Landmark (ALT) lower bounds for A* on one word length. A few landmark words are
+ * picked far apart and the number of moves from each landmark to every word is stored.
+ * Moves between two words are at least |d(L, a) - d(L, b)| for every landmark L
+ * (triangle inequality), which is often much larger than the letters that differ.
+ */
+public class Landmarks {
+    static final short UNREACHABLE = -1;
+
+    WordGraph graph;   // graph the distances were measured on
+    int[] landmarks;   // word ids of the landmarks
+    short[] dist;      // dist[id * landmarks.length + l] = moves from landmark l to id, or UNREACHABLE
+
+    /**
+     * Pick landmarks one at a time, each as far as possible from the ones already picked,
+     * inside the largest group of connected words, and store their distances
+     * @param graph  Words of one length
+     * @param count  Number of landmarks wanted
+     */
+    public Landmarks(WordGraph graph, int count) {
+        this.graph = graph;
+        int n = graph.size();
+        landmarks = new int[Math.min(count, n)];
+        dist = new short[n * landmarks.length];
+        if (landmarks.length == 0) {
+            return;
+        }
+
+        // start from the largest component
+        int[] sizes = new int[graph.componentCount];
+        for (int id = 0; id < n; id++) {
+            sizes[graph.component[id]]++;
+        }
+        int biggest = 0;
+        for (int c = 1; c < sizes.length; c++) {
+            if (sizes[c] > sizes[biggest]) {
+                biggest = c;
+            }
+        }
+        int seed = 0;
+        while (graph.component[seed] != biggest) {
+            seed++;
+        }
+
+        // nearest landmark distance for each word, the next landmark is the word farthest away
+        int[] nearest = new int[n];
+        short[] row = new short[n];
+        IntRingQueue queue = new IntRingQueue(graph.size());
+        bfs(graph, seed, row, queue);
+        int next = farthest(graph, biggest, row, null);
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+        for (int l = 0; l < landmarks.length; l++) {
+            landmarks[l] = next;
+            bfs(graph, next, row, queue);
+            for (int id = 0; id < n; id++) {
+                dist[id * landmarks.length + l] = row[id];
+                if (row[id] != UNREACHABLE) {
+                    nearest[id] = Math.min(nearest[id], row[id]);
+                }
+            }
+            next = farthest(graph, biggest, row, nearest);
+        }
+    }
+
+    /**
+     * Lower bound on the moves between two words, 0 if no landmark reaches them
+     * @param id  Word being estimated
+     * @param target  Distances of the goal word, from targetDistances
+     */
+    public int lowerBound(int id, short[] target) {
+        int bound = 0;
+        int base = id * landmarks.length;
+        for (int l = 0; l < landmarks.length; l++) {
+            short d = dist[base + l];
+            if (d != UNREACHABLE && target[l] != UNREACHABLE) {
+                bound = Math.max(bound, Math.abs(d - target[l]));
+            }
+        }
+        return bound;
+    }
+
+    /** DISTANCES FROM EVERY LANDMARK TO ONE WORD, FOR lowerBound **/
+    public short[] targetDistances(int target) {
+        short[] row = new short[landmarks.length];
+        System.arraycopy(dist, target * landmarks.length, row, 0, landmarks.length);
+        return row;
+    }
+
+    /** NUMBER OF LANDMARKS **/
+    public int size() {
+        return landmarks.length;
+    }
+
+    /** FILL row WITH THE MOVES FROM root TO EVERY WORD **/
+    private static void bfs(WordGraph graph, int root, short[] row, IntRingQueue queue) {
+        Arrays.fill(row, UNREACHABLE);
+        queue.clear();
+        row[root] = 0;
+        queue.enqueue(root);
+        while (!queue.isEmpty()) {
+            int id = queue.dequeue();
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                int next = graph.edges[e];
+                if (row[next] == UNREACHABLE) {
+                    row[next] = (short) Math.min(row[id] + 1, Short.MAX_VALUE);
+                    queue.enqueue(next);
+                }
+            }
+        }
+    }
+
+    /** WORD IN THE COMPONENT THAT IS FARTHEST FROM THE LANDMARKS (OR FROM row IF THERE ARE NONE YET) **/
+    private static int farthest(WordGraph graph, int component, short[] row, int[] nearest) {
+        int best = -1;
+        int bestDist = -1;
+        for (int id = 0; id < graph.size(); id++) {
+            if (graph.component[id] == component) {
+                int d = (nearest == null) ? row[id] : nearest[id];
+                if (d > bestDist) {
+                    best = id;
+                    bestDist = d;
+                }
+            }
+        }
+        return best;
+    }
+}
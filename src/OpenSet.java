@@ -0,0 +1,24 @@
+/**
+ * The open set used by A*. Nodes are int ids handed out by the caller and each
+ * one is queued with an integer priority (moves so far + estimate to the end).
+ * deleteMin gives back a waiting node with the smallest priority.
+ */
+public interface OpenSet {
+    /** ADD A NODE WITH THE GIVEN PRIORITY **/
+    void insert(int node, int priority);
+
+    /** REMOVE AND RETURN A NODE WITH THE SMALLEST PRIORITY, OR -1 IF EMPTY **/
+    int deleteMin();
+
+    /** TRUE IF NO NODES ARE WAITING **/
+    boolean isEmpty();
+
+    /** NUMBER OF NODES WAITING **/
+    int size();
+
+    /** HEIGHT OF THE TREE HOLDING THE NODES, 0 IF IT IS NOT A TREE **/
+    int height();
+
+    /** REMOVE ALL NODES **/
+    void makeEmpty();
+}
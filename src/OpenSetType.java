@@ -0,0 +1,20 @@
+/**
+ * The open set implementations A* can run with, so they can be compared on the same searches.
+ */
+public enum OpenSetType {
+    BUCKET,      // array of buckets indexed by priority, no comparisons
+    AVL,         // AVLTree ordered by priority
+    POOLED_AVL;  // PooledAVLTree ordered by priority, allocation free once warmed up
+
+    /** MAKE AN EMPTY OPEN SET OF THIS TYPE **/
+    public OpenSet create() {
+        switch (this) {
+            case AVL:
+                return new AvlOpenSet(false);
+            case POOLED_AVL:
+                return new AvlOpenSet(true);
+            default:
+                return new BucketQueue(false);
+        }
+    }
+}
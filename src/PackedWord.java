@@ -0,0 +1,80 @@
+/**
+ * Packs a lower case word into longs at 5 bits a letter ('a' is 1, so no letter packs
+ * to 0 and words of different lengths never share a code). The first 12 letters go in
+ * the low long and any after that in the high long, which is 0 for short words.
+ * Swapping a letter is then a mask and an or, with no String made.
+ */
+public final class PackedWord {
+    static final int BITS = 5;
+    static final long MASK = 31;
+    static final int LETTERS_PER_LONG = 12;
+
+    private PackedWord() {
+    }
+
+    /** TRUE IF A WORD IS NON-EMPTY, LOWER CASE AND SHORT ENOUGH TO PACK **/
+    public static boolean packable(String word) {
+        if (word.isEmpty() || word.length() > 2 * LETTERS_PER_LONG) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) < 'a' || word.charAt(i) > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** LOW LONG OF A WORD: ITS FIRST 12 LETTERS **/
+    public static long low(String word) {
+        return pack(word, 0, Math.min(word.length(), LETTERS_PER_LONG));
+    }
+
+    /** HIGH LONG OF A WORD: LETTERS 13 AND ON, 0 IF THERE ARE NONE **/
+    public static long high(String word) {
+        if (word.length() > 2 * LETTERS_PER_LONG) {
+            throw new IllegalArgumentException("Word is too long to pack: " + word);
+        }
+        return pack(word, LETTERS_PER_LONG, word.length());
+    }
+
+    private static long pack(String word, int from, int to) {
+        long code = 0;
+        for (int i = from; i < to; i++) {
+            int letter = word.charAt(i) - 'a';
+            if (letter < 0 || letter >= 26) {
+                throw new IllegalArgumentException("Not a lower case word: " + word);
+            }
+            code |= (long) (letter + 1) << (BITS * (i - from));
+        }
+        return code;
+    }
+
+    /**
+     * Letter at a position of one long, 0 for 'a'
+     * @param position  Position within that long, 0 to 11
+     */
+    public static int letter(long code, int position) {
+        return (int) ((code >>> (BITS * position)) & MASK) - 1;
+    }
+
+    /**
+     * Same long with the letter at one position swapped
+     * @param position  Position within that long, 0 to 11
+     * @param letter  New letter, 0 for 'a'
+     */
+    public static long replace(long code, int position, int letter) {
+        int shift = BITS * position;
+        return (code & ~(MASK << shift)) | ((long) (letter + 1) << shift);
+    }
+
+    /** WORD FOR A PACKED CODE **/
+    public static String unpack(long low, long high, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            long code = (i < LETTERS_PER_LONG) ? low : high;
+            letters[i] = (char) ('a' + letter(code, i % LETTERS_PER_LONG));
+        }
+        return new String(letters);
+    }
+}
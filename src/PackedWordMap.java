@@ -0,0 +1,152 @@
+/**
+ * Open addressing hash map from packed words (see PackedWord) to int values, with
+ * linear probing in parallel long and int arrays. A low long of 0 marks an empty
+ * slot, which no packed word has. Looking a word up is one probe sequence with no
+ * boxing and no String made.
+ */
+public class PackedWordMap {
+    long[] lows;
+    long[] highs;
+    int[] values;
+    int size;
+    int mask;  // slots - 1, slots is a power of two
+
+    public PackedWordMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize  Entries to make room for before the table grows
+     */
+    public PackedWordMap(int expectedSize) {
+        int slots = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        lows = new long[slots];
+        highs = new long[slots];
+        values = new int[slots];
+        mask = slots - 1;
+    }
+
+    /** VALUE FOR A WORD, OR -1 IF IT IS NOT IN THE MAP (OR CAN'T BE PACKED) **/
+    public int get(String word) {
+        if (!PackedWord.packable(word)) {
+            return -1;
+        }
+        return get(PackedWord.low(word), PackedWord.high(word));
+    }
+
+    /** VALUE FOR A PACKED WORD, OR -1 IF IT IS NOT IN THE MAP **/
+    public int get(long low, long high) {
+        for (int slot = slot(low, high); lows[slot] != 0; slot = (slot + 1) & mask) {
+            if (lows[slot] == low && highs[slot] == high) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    /** TRUE IF THE WORD IS IN THE MAP **/
+    public boolean containsKey(String word) {
+        return get(word) >= 0;
+    }
+
+    /** SET THE VALUE OF A WORD, ADDING THE WORD IF NEEDED **/
+    public void put(String word, int value) {
+        put(PackedWord.low(word), PackedWord.high(word), value);
+    }
+
+    /** SET THE VALUE OF A PACKED WORD, ADDING THE WORD IF NEEDED **/
+    public void put(long low, long high, int value) {
+        if (low == 0) {
+            throw new IllegalArgumentException("Empty words can't be packed");
+        }
+        if ((size + 1) * 2 > lows.length) {
+            grow();
+        }
+        int slot = slot(low, high);
+        while (lows[slot] != 0) {
+            if (lows[slot] == low && highs[slot] == high) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        lows[slot] = low;
+        highs[slot] = high;
+        values[slot] = value;
+        size++;
+    }
+
+    /** TAKE A WORD OUT, RETURNS ITS VALUE OR -1 IF IT WAS NOT THERE **/
+    public int remove(String word) {
+        if (!PackedWord.packable(word)) {
+            return -1;
+        }
+        return remove(PackedWord.low(word), PackedWord.high(word));
+    }
+
+    /** TAKE A PACKED WORD OUT, RETURNS ITS VALUE OR -1 IF IT WAS NOT THERE **/
+    public int remove(long low, long high) {
+        int slot = slot(low, high);
+        while (lows[slot] != low || highs[slot] != high) {
+            if (lows[slot] == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int value = values[slot];
+        size--;
+
+        // shift later entries of the run back so no probe sequence is broken
+        int hole = slot;
+        for (int next = (hole + 1) & mask; lows[next] != 0; next = (next + 1) & mask) {
+            int home = slot(lows[next], highs[next]);
+            // move next into the hole unless its home lies after the hole, up to next
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                lows[hole] = lows[next];
+                highs[hole] = highs[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        lows[hole] = 0;
+        highs[hole] = 0;
+        return value;
+    }
+
+    /** NUMBER OF WORDS IN THE MAP **/
+    public int size() {
+        return size;
+    }
+
+    /** COPY THAT CAN BE CHANGED WITHOUT CHANGING THIS MAP **/
+    public PackedWordMap copy() {
+        PackedWordMap copy = new PackedWordMap(0);
+        copy.lows = lows.clone();
+        copy.highs = highs.clone();
+        copy.values = values.clone();
+        copy.size = size;
+        copy.mask = mask;
+        return copy;
+    }
+
+    private int slot(long low, long high) {
+        long hash = (low ^ (high * 0x9E3779B97F4A7C15L)) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 31)) & mask;
+    }
+
+    private void grow() {
+        long[] oldLows = lows;
+        long[] oldHighs = highs;
+        int[] oldValues = values;
+        lows = new long[oldLows.length * 2];
+        highs = new long[oldLows.length * 2];
+        values = new int[oldLows.length * 2];
+        mask = lows.length - 1;
+        size = 0;
+        for (int i = 0; i < oldLows.length; i++) {
+            if (oldLows[i] != 0) {
+                put(oldLows[i], oldHighs[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+import java.util.Collection;
+
+/**
+ * Set of packed words (see PackedWord), a PackedWordMap whose values are ignored.
+ */
+public class PackedWordSet {
+    private final PackedWordMap map;
+
+    public PackedWordSet(int expectedSize) {
+        map = new PackedWordMap(expectedSize);
+    }
+
+    private PackedWordSet(PackedWordMap map) {
+        this.map = map;
+    }
+
+    /** COPY THAT CAN BE CHANGED WITHOUT CHANGING THIS SET **/
+    public PackedWordSet copy() {
+        return new PackedWordSet(map.copy());
+    }
+
+    /** SET OF EVERY WORD IN A LIST **/
+    public static PackedWordSet of(Collection<String> words) {
+        PackedWordSet set = new PackedWordSet(words.size());
+        for (String word : words) {
+            set.add(word);
+        }
+        return set;
+    }
+
+    /** ADD A WORD, RETURNS FALSE IF IT WAS ALREADY THERE **/
+    public boolean add(String word) {
+        if (map.containsKey(word)) {
+            return false;
+        }
+        map.put(word, 0);
+        return true;
+    }
+
+    /** TAKE A WORD OUT, RETURNS FALSE IF IT WAS NOT THERE **/
+    public boolean remove(String word) {
+        return map.remove(word) >= 0;
+    }
+
+    /** TRUE IF THE WORD IS IN THE SET **/
+    public boolean contains(String word) {
+        return map.containsKey(word);
+    }
+
+    /** TRUE IF THE PACKED WORD IS IN THE SET **/
+    public boolean contains(long low, long high) {
+        return map.get(low, high) >= 0;
+    }
+
+    /** NUMBER OF WORDS IN THE SET **/
+    public int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the breadth first shortest path tree of recently used starting words. A tree is
+ * one int per word of that length: pred[id] is the next word on a shortest ladder from
+ * id back to the root, pred[root] is root itself and -1 means no ladder. Because ladders
+ * work in both directions, a tree rooted at either word of a query answers it.
+ *
+ * A tree is only handed back for the same WordGraph it was built on, so trees from
+ * before a word was added or removed are never used with the new ids.
+ *
+ * Trees are evicted least recently used first once the trees hold more than maxEntries ints.
+ * All methods are synchronized so searches on several threads can share one cache.
+ */
+public class PathTreeCache {
+    private LinkedHashMap<String, Tree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxEntries;  // total ints allowed in all trees together
+    private long entries;     // total ints in the trees now
+    private long hits;
+    private long misses;
+
+    /** A TREE AND THE GRAPH IT WAS BUILT ON **/
+    private static class Tree {
+        WordGraph graph;
+        int[] pred;
+
+        Tree(WordGraph graph, int[] pred) {
+            this.graph = graph;
+            this.pred = pred;
+        }
+    }
+
+    /**
+     * @param maxEntries  Total number of ints all the trees can use, one per word in each tree
+     */
+    public PathTreeCache(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Tree of graph rooted at startWord, or else at endWord, or null. Counts one hit or one miss.
+     * The caller can tell which root it got because pred[root] == root.
+     */
+    public synchronized int[] find(WordGraph graph, String startWord, String endWord) {
+        Tree tree = trees.get(startWord);
+        if (tree == null || tree.graph != graph) {
+            tree = trees.get(endWord);
+        }
+        if (tree == null || tree.graph != graph) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return tree.pred;
+    }
+
+    /** REMEMBER THE TREE OF graph ROOTED AT A WORD, EVICTING OLD TREES TO MAKE ROOM **/
+    public synchronized void put(WordGraph graph, String root, int[] pred) {
+        Tree old = trees.put(root, new Tree(graph, pred));
+        if (old != null) {
+            entries -= old.pred.length;
+        }
+        entries += pred.length;
+
+        Iterator<Map.Entry<String, Tree>> eldest = trees.entrySet().iterator();
+        while (entries > maxEntries && eldest.hasNext()) {
+            Map.Entry<String, Tree> entry = eldest.next();
+            if (entry.getValue().pred != pred) {
+                entries -= entry.getValue().pred.length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /** FORGET EVERY TREE FOR WORDS OF ONE LENGTH **/
+    public synchronized void invalidate(int length) {
+        Iterator<Map.Entry<String, Tree>> it = trees.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Tree> entry = it.next();
+            if (entry.getKey().length() == length) {
+                entries -= entry.getValue().pred.length;
+                it.remove();
+            }
+        }
+    }
+
+    /** FORGET EVERY TREE **/
+    public synchronized void clear() {
+        trees.clear();
+        entries = 0;
+    }
+
+    /** NUMBER OF TREES KEPT **/
+    public synchronized int size() {
+        return trees.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized String toString() {
+        return "Path tree cache: " + trees.size() + " trees, " + entries + " entries, "
+                + hits + " hits, " + misses + " misses";
+    }
+}
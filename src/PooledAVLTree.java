@@ -0,0 +1,332 @@
+import java.util.Arrays;
+
+// PooledAVLTree class
+//
+// CONSTRUCTION: with no initializer, or with an initial node capacity
+//
+// ******************PUBLIC OPERATIONS*********************
+// Same as AVLTree:
+// void insert( x )       --> Insert x
+// void remove( x )       --> Remove x
+// boolean contains( x )  --> Return true if x is present
+// Comparable findMin( )  --> Return smallest item
+// Comparable deleteMin( )--> Remove and return smallest item
+// Comparable findMax( )  --> Return largest item
+// boolean isEmpty( )     --> Return true if empty; else false
+// int height( )          --> Return height of the tree, -1 if empty
+// void makeEmpty( )      --> Remove all items
+// void printTree( )      --> Print tree in sorted order
+/**
+ * AVL tree whose nodes live in parallel arrays instead of separate objects.
+ * Node i has element[i], left[i], right[i] and height[i]; NIL (-1) is the empty tree.
+ * Removed nodes go on a free list (chained through left[]) and are reused, so once the
+ * arrays are big enough insert, remove and deleteMin allocate nothing.
+ */
+public class PooledAVLTree<AnyType extends Comparable<? super AnyType>> {
+    private static final int NIL = -1;
+    private static final int ALLOWED_IMBALANCE = 1;
+
+    private Object[] element;
+    private int[] left;
+    private int[] right;
+    private int[] height;
+    private int root = NIL;
+    private int free = NIL;   // first node on the free list
+    private int used = 0;     // nodes handed out from the end of the arrays so far
+
+    /**
+     * Construct the tree.
+     */
+    public PooledAVLTree() {
+        this(64);
+    }
+
+    /**
+     * Construct the tree with room for some nodes before the arrays have to grow.
+     *
+     * @param capacity nodes to make room for.
+     */
+    public PooledAVLTree(int capacity) {
+        capacity = Math.max(capacity, 4);
+        element = new Object[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        height = new int[capacity];
+    }
+
+    /**
+     * @param value the item to insert.
+     */
+    public void insert(AnyType value) {
+        root = insert(value, root);
+    }
+
+    /**
+     * Internal method to insert into a subtree.  Duplicates are allowed
+     *
+     * @param value the item to insert.
+     * @param t the node that roots the subtree.
+     * @return the new root of the subtree.
+     */
+    private int insert(AnyType value, int t) {
+        if (t == NIL)
+            return newNode(value);
+        // the arrays may grow during the call, so only index them after it returns
+        if (value.compareTo(element(t)) < 0) {
+            int child = insert(value, left[t]);
+            left[t] = child;
+        } else {
+            int child = insert(value, right[t]);
+            right[t] = child;
+        }
+        return balance(t);
+    }
+
+    /**
+     * Remove from the tree. Nothing is done if x is not found.
+     *
+     * @param item the item to remove.
+     */
+    public void remove(AnyType item) {
+        root = remove(item, root);
+    }
+
+    /**
+     * Internal method to remove from a subtree.
+     *
+     * @param item the item to remove.
+     * @param t the node that roots the subtree.
+     * @return the new root of the subtree.
+     */
+    private int remove(AnyType item, int t) {
+        if (t == NIL)
+            return t;   // Item not found; do nothing
+
+        int compareResult = item.compareTo(element(t));
+        if (compareResult < 0) {
+            left[t] = remove(item, left[t]);
+        } else if (compareResult > 0) {
+            right[t] = remove(item, right[t]);
+        } else if (left[t] != NIL && right[t] != NIL) { // Two children
+            element[t] = element[findMin(right[t])];
+            right[t] = remove(element(t), right[t]);
+        } else {
+            int child = (left[t] != NIL) ? left[t] : right[t];
+            freeNode(t);
+            return child;
+        }
+        return balance(t);
+    }
+
+    /**
+     * Find an item in the tree.
+     *
+     * @param value the item to search for.
+     * @return true if x is found.
+     */
+    public boolean contains(AnyType value) {
+        int t = root;
+        while (t != NIL) {
+            int compareResult = value.compareTo(element(t));
+            if (compareResult < 0)
+                t = left[t];
+            else if (compareResult > 0)
+                t = right[t];
+            else
+                return true;    // Match
+        }
+        return false;   // No match
+    }
+
+    /**
+     * Remove the smallest item from the tree.
+     *
+     * @return the smallest item, or null if empty.
+     */
+    public AnyType deleteMin() {
+        if (isEmpty())
+            return null;
+        AnyType min = element(findMin(root));
+        root = deleteMin(root);
+        return min;
+    }
+
+    /**
+     * Internal method to remove the smallest item from a subtree.
+     *
+     * @param t the node that roots the subtree.
+     * @return the new root of the subtree.
+     */
+    private int deleteMin(int t) {
+        if (left[t] == NIL) {
+            int child = right[t];
+            freeNode(t);
+            return child;
+        }
+        left[t] = deleteMin(left[t]);
+        return balance(t);
+    }
+
+    /**
+     * Find the smallest item in the tree.
+     *
+     * @return smallest item.
+     */
+    public AnyType findMin() {
+        if (isEmpty())
+            throw new RuntimeException();
+        return element(findMin(root));
+    }
+
+    private int findMin(int t) {
+        while (left[t] != NIL)
+            t = left[t];
+        return t;
+    }
+
+    /**
+     * Find the largest item in the tree.
+     *
+     * @return the largest item.
+     */
+    public AnyType findMax() {
+        if (isEmpty())
+            throw new RuntimeException();
+        int t = root;
+        while (right[t] != NIL)
+            t = right[t];
+        return element(t);
+    }
+
+    /**
+     * Make the tree logically empty. The arrays are kept for reuse.
+     */
+    public void makeEmpty() {
+        Arrays.fill(element, 0, used, null);
+        root = NIL;
+        free = NIL;
+        used = 0;
+    }
+
+    /**
+     * Test if the tree is logically empty.
+     *
+     * @return true if empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    /**
+     * Height of the whole tree.
+     *
+     * @return height of the root, or -1 if empty.
+     */
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * Print the tree contents in sorted order.
+     */
+    public void printTree(String label) {
+        System.out.println(label);
+        if (isEmpty())
+            System.out.println("Empty tree");
+        else
+            printTree(root, "");
+    }
+
+    private void printTree(int t, String indent) {
+        if (t != NIL) {
+            printTree(right[t], indent + "   ");
+            System.out.println(indent + element[t] + "(" + height[t] + ")");
+            printTree(left[t], indent + "   ");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AnyType element(int t) {
+        return (AnyType) element[t];
+    }
+
+    /** TAKE A NODE FROM THE FREE LIST, OR FROM THE END OF THE ARRAYS **/
+    private int newNode(AnyType value) {
+        int t;
+        if (free != NIL) {
+            t = free;
+            free = left[t];
+        } else {
+            if (used == element.length) {
+                int newLength = element.length * 2;
+                element = Arrays.copyOf(element, newLength);
+                left = Arrays.copyOf(left, newLength);
+                right = Arrays.copyOf(right, newLength);
+                height = Arrays.copyOf(height, newLength);
+            }
+            t = used++;
+        }
+        element[t] = value;
+        left[t] = NIL;
+        right[t] = NIL;
+        height[t] = 0;
+        return t;
+    }
+
+    /** PUT A NODE ON THE FREE LIST **/
+    private void freeNode(int t) {
+        element[t] = null;
+        left[t] = free;
+        free = t;
+    }
+
+    private int height(int t) {
+        return (t == NIL) ? -1 : height[t];
+    }
+
+    // Assume t is either balanced or within one of being balanced
+    private int balance(int t) {
+        if (t == NIL)
+            return t;
+        if (height(left[t]) - height(right[t]) > ALLOWED_IMBALANCE)
+            if (height(left[left[t]]) >= height(right[left[t]]))
+                t = rightRotation(t);
+            else
+                t = doubleRightRotation(t);
+        else if (height(right[t]) - height(left[t]) > ALLOWED_IMBALANCE)
+            if (height(right[right[t]]) >= height(left[right[t]]))
+                t = leftRotation(t);
+            else
+                t = doubleLeftRotation(t);
+        height[t] = Math.max(height(left[t]), height(right[t])) + 1;
+        return t;
+    }
+
+    private int rightRotation(int t) {
+        int theLeft = left[t];
+        left[t] = right[theLeft];
+        right[theLeft] = t;
+        height[t] = Math.max(height(left[t]), height(right[t])) + 1;
+        height[theLeft] = Math.max(height(left[theLeft]), height[t]) + 1;
+        return theLeft;
+    }
+
+    private int leftRotation(int t) {
+        int theRight = right[t];
+        right[t] = left[theRight];
+        left[theRight] = t;
+        height[t] = Math.max(height(left[t]), height(right[t])) + 1;
+        height[theRight] = Math.max(height(right[theRight]), height[t]) + 1;
+        return theRight;
+    }
+
+    private int doubleRightRotation(int t) {
+        left[t] = leftRotation(left[t]);
+        return rightRotation(t);
+    }
+
+    private int doubleLeftRotation(int t) {
+        right[t] = rightRotation(right[t]);
+        return leftRotation(t);
+    }
+}
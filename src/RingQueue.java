@@ -0,0 +1,90 @@
+import java.util.NoSuchElementException;
+
+/**
+ * First in first out queue in a growable circular array, for any type. Same
+ * operations as LinkedList without a node object per enqueue, but dequeue and peek
+ * throw NoSuchElementException on an empty queue like IntRingQueue, the version that
+ * holds word ids without boxing.
+ */
+public class RingQueue <E> {
+    private Object[] items;
+    private int head = 0;     // index of the first item
+    private int counter = 0;  // number of items
+
+    public RingQueue() {
+        this(16);
+    }
+
+    public RingQueue(int capacity) {
+        items = new Object[Math.max(capacity, 2)];
+    }
+
+    /** ADD AN ITEM TO THE END OF THE QUEUE **/
+    public void enqueue(E value) {
+        if (counter == items.length) {
+            grow(counter + 1);
+        }
+        items[(head + counter) % items.length] = value;
+        counter++;
+    }
+
+    /** ADD EVERY ITEM TO THE END OF THE QUEUE IN ORDER **/
+    public void enqueueAll(Iterable<? extends E> values) {
+        for (E value : values) {
+            enqueue(value);
+        }
+    }
+
+    /** REMOVE THE FIRST ITEM IN THE QUEUE AND RETURN IT **/
+    @SuppressWarnings("unchecked")
+    public E dequeue() {
+        if (counter == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        E value = (E) items[head];
+        items[head] = null;  // don't keep the item alive
+        head = (head + 1 == items.length) ? 0 : head + 1;
+        counter--;
+        return value;
+    }
+
+    /** FIRST ITEM IN THE QUEUE, LEFT IN PLACE **/
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (counter == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return (E) items[head];
+    }
+
+    /** NUMBER OF ITEMS IN THE QUEUE **/
+    public int size() {
+        return counter;
+    }
+
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    /** REMOVE EVERY ITEM BUT KEEP THE ARRAY **/
+    public void clear() {
+        while (counter > 0) {
+            dequeue();
+        }
+        head = 0;
+    }
+
+    /** COPY THE ITEMS, IN ORDER, TO THE FRONT OF A BIGGER ARRAY **/
+    private void grow(int needed) {
+        int newLength = items.length;
+        while (newLength < needed) {
+            newLength *= 2;
+        }
+        Object[] bigger = new Object[newLength];
+        int first = Math.min(counter, items.length - head);
+        System.arraycopy(items, head, bigger, 0, first);
+        System.arraycopy(items, 0, bigger, first, counter - first);
+        items = bigger;
+        head = 0;
+    }
+}
@@ -0,0 +1,55 @@
+import java.util.Arrays;
+
+/**
+ * Partial ladders stored as parent pointers in parallel int arrays. Node i ends at
+ * word id word[i] after moves[i] moves and continues the ladder of node parent[i]
+ * (-1 for the starting word), so extending a ladder costs three ints instead of a
+ * copy of the whole path. The printable ladder is only rebuilt once a solution is found.
+ */
+public class SearchNodes {
+    int[] word;    // graph id of the last word of each partial ladder
+    int[] moves;   // number of moves in each partial ladder
+    int[] parent;  // node this ladder was extended from, or -1
+    private int counter = 0;
+
+    public SearchNodes(int capacity) {
+        capacity = Math.max(capacity, 16);
+        word = new int[capacity];
+        moves = new int[capacity];
+        parent = new int[capacity];
+    }
+
+    /** ADD A PARTIAL LADDER AND RETURN ITS NODE NUMBER **/
+    public int add(int wordId, int numMoves, int parentNode) {
+        if (counter == word.length) {
+            int newLength = word.length * 2;
+            word = Arrays.copyOf(word, newLength);
+            moves = Arrays.copyOf(moves, newLength);
+            parent = Arrays.copyOf(parent, newLength);
+        }
+        word[counter] = wordId;
+        moves[counter] = numMoves;
+        parent[counter] = parentNode;
+        return counter++;
+    }
+
+    /** NUMBER OF NODES ADDED SO FAR **/
+    public int size() {
+        return counter;
+    }
+
+    /** FORGET ALL NODES BUT KEEP THE ARRAYS **/
+    public void clear() {
+        counter = 0;
+    }
+
+    /** WORD IDS OF THE LADDER ENDING AT A NODE, FROM THE STARTING WORD ON **/
+    public int[] path(int node) {
+        int[] ids = new int[moves[node] + 1];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = word[node];
+            node = parent[node];
+        }
+        return ids;
+    }
+}
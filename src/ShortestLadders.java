@@ -0,0 +1,266 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Every shortest ladder between two words, kept as the layered graph they all run through
+ * instead of as a list. A word is in layer i when it is i moves from the start and
+ * moves - i moves from the end, and each word links to the words of the next layer it is
+ * one letter away from. The number of ladders is counted from the end back without
+ * listing them, and they can be walked in alphabetical order one at a time, starting
+ * from any index, keeping only the position in each layer between steps.
+ *
+ * Usage: java ShortestLadders [dictionary file] start end [ladders to print]
+ */
+public class ShortestLadders implements Iterable<String[]> {
+    WordGraph graph;
+    int moves = -1;        // moves in every shortest ladder, -1 if there is none
+    int[] nodes;           // graph ids of the layered words, layer by layer, alphabetical in a layer
+    int[] layerStart;      // layer i is nodes[layerStart[i]] .. nodes[layerStart[i + 1] - 1]
+    int[] nextOffsets;     // next layer words of node k are nodes[next[nextOffsets[k]] ..]
+    int[] next;            // indices into nodes, alphabetical for each node
+    long[] ways;           // ladders from each node to the end, while they fit in a long
+    BigInteger[] bigWays;  // the same counts once some don't fit, else null
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Usage: java ShortestLadders [dictionary file] start end [ladders to print]");
+            return;
+        }
+        LadderGame game = new LadderGame(args[0]);
+        int limit = (args.length > 3) ? Integer.parseInt(args[3]) : 20;
+        ShortestLadders ladders = game.shortestLadders(args[1].toLowerCase(), args[2].toLowerCase());
+        System.out.println(ladders.count() + " shortest ladders of " + ladders.moves() + " moves");
+        int printed = 0;
+        for (String[] ladder : ladders) {
+            if (printed++ == limit) {
+                System.out.println("...");
+                break;
+            }
+            System.out.println(String.join(" ", ladder));
+        }
+    }
+
+    /**
+     * Builds the layers with a breadth first search from each word
+     * @param graph  Words of one length
+     * @param startId  Id of the first word of every ladder
+     * @param endId  Id of the last word of every ladder
+     */
+    public ShortestLadders(WordGraph graph, int startId, int endId) {
+        this.graph = graph;
+        int[] fromStart = distances(graph, startId, endId, Integer.MAX_VALUE);
+        if (fromStart[endId] < 0) {
+            nodes = new int[0];
+            return;
+        }
+        moves = fromStart[endId];
+        int[] fromEnd = distances(graph, endId, -1, moves);
+
+        // count the words in each layer, then place them
+        layerStart = new int[moves + 2];
+        for (int id = 0; id < graph.size(); id++) {
+            if (onLadder(fromStart, fromEnd, id)) {
+                layerStart[fromStart[id] + 1]++;
+            }
+        }
+        for (int i = 0; i <= moves; i++) {
+            layerStart[i + 1] += layerStart[i];
+        }
+        nodes = new int[layerStart[moves + 1]];
+        int[] fill = Arrays.copyOf(layerStart, moves + 1);
+        for (int id = 0; id < graph.size(); id++) {
+            if (onLadder(fromStart, fromEnd, id)) {
+                nodes[fill[fromStart[id]]++] = id;
+            }
+        }
+        for (int i = 0; i <= moves; i++) {
+            sortByWord(nodes, layerStart[i], layerStart[i + 1]);
+        }
+
+        // link each word to its neighbors one layer closer to the end
+        int[] index = new int[graph.size()];
+        for (int k = 0; k < nodes.length; k++) {
+            index[nodes[k]] = k;
+        }
+        nextOffsets = new int[nodes.length + 1];
+        IntRingQueue links = new IntRingQueue();
+        for (int k = 0; k < nodes.length; k++) {
+            int id = nodes[k];
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                int to = graph.edges[e];
+                if (fromStart[to] == fromStart[id] + 1 && onLadder(fromStart, fromEnd, to)) {
+                    links.enqueue(index[to]);
+                }
+            }
+            nextOffsets[k + 1] = links.size();
+        }
+        next = new int[links.size()];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = links.dequeue();
+        }
+        for (int k = 0; k < nodes.length; k++) {
+            Arrays.sort(next, nextOffsets[k], nextOffsets[k + 1]);  // layers are alphabetical
+        }
+
+        countWays();
+    }
+
+    /**
+     * Moves from root to every word, -1 where it can't reach or is more than limit away.
+     * Stops after the level where stopAt is reached.
+     */
+    private static int[] distances(WordGraph graph, int root, int stopAt, int limit) {
+        int[] dist = new int[graph.size()];
+        Arrays.fill(dist, -1);
+        IntRingQueue queue = new IntRingQueue(64);
+        dist[root] = 0;
+        queue.enqueue(root);
+        while (!queue.isEmpty()) {
+            int id = queue.dequeue();
+            if (dist[id] == limit || (stopAt >= 0 && dist[stopAt] >= 0 && dist[id] >= dist[stopAt])) {
+                break;
+            }
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                if (dist[graph.edges[e]] < 0) {
+                    dist[graph.edges[e]] = dist[id] + 1;
+                    queue.enqueue(graph.edges[e]);
+                }
+            }
+        }
+        return dist;
+    }
+
+    private boolean onLadder(int[] fromStart, int[] fromEnd, int id) {
+        return fromStart[id] >= 0 && fromEnd[id] >= 0 && fromStart[id] + fromEnd[id] == moves;
+    }
+
+    /** INSERTION SORT OF ONE LAYER BY WORD, LAYERS ARE SMALL **/
+    private void sortByWord(int[] ids, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= from && graph.words[ids[j]].compareTo(graph.words[id]) > 0) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+    /** LADDERS FROM EACH NODE TO THE END, LAST LAYER FIRST; SWITCHES TO BigInteger IF A LONG OVERFLOWS **/
+    private void countWays() {
+        ways = new long[nodes.length];
+        try {
+            for (int k = nodes.length - 1; k >= 0; k--) {
+                ways[k] = (nextOffsets[k] == nextOffsets[k + 1]) ? 1 : 0;  // only the end word has no next
+                for (int n = nextOffsets[k]; n < nextOffsets[k + 1]; n++) {
+                    ways[k] = Math.addExact(ways[k], ways[next[n]]);
+                }
+            }
+        } catch (ArithmeticException e) {
+            bigWays = new BigInteger[nodes.length];
+            for (int k = nodes.length - 1; k >= 0; k--) {
+                bigWays[k] = (nextOffsets[k] == nextOffsets[k + 1]) ? BigInteger.ONE : BigInteger.ZERO;
+                for (int n = nextOffsets[k]; n < nextOffsets[k + 1]; n++) {
+                    bigWays[k] = bigWays[k].add(bigWays[next[n]]);
+                }
+            }
+            ways = null;
+        }
+    }
+
+    private BigInteger ways(int node) {
+        return (bigWays != null) ? bigWays[node] : BigInteger.valueOf(ways[node]);
+    }
+
+    /** MOVES IN EVERY SHORTEST LADDER, OR -1 IF THE WORDS CAN'T BE JOINED **/
+    public int moves() {
+        return moves;
+    }
+
+    /** NUMBER OF DIFFERENT SHORTEST LADDERS **/
+    public BigInteger count() {
+        return (moves < 0) ? BigInteger.ZERO : ways(0);
+    }
+
+    /** THE SHORTEST LADDER AT AN INDEX, COUNTING ALPHABETICALLY FROM 0 **/
+    public String[] ladder(BigInteger index) {
+        return toWords(unrank(index));
+    }
+
+    /** EVERY SHORTEST LADDER IN ALPHABETICAL ORDER **/
+    public Iterator<String[]> iterator() {
+        return iterator(BigInteger.ZERO);
+    }
+
+    /**
+     * Shortest ladders in alphabetical order, starting at an index so they can be paged
+     * through. Between ladders only the position in each layer is kept.
+     * @param from  Index of the first ladder to return, from 0
+     */
+    public Iterator<String[]> iterator(BigInteger from) {
+        return new Iterator<String[]>() {
+            // choice[i] is the edge (into next) taken from layer i, the path is rebuilt from it
+            int[] choice = (from.compareTo(count()) < 0) ? unrank(from) : null;
+
+            public boolean hasNext() {
+                return choice != null;
+            }
+
+            public String[] next() {
+                if (choice == null) {
+                    throw new NoSuchElementException();
+                }
+                String[] ladder = toWords(choice);
+                choice = advance(choice);
+                return ladder;
+            }
+        };
+    }
+
+    /** CHOICES OF THE LADDER AT AN INDEX, WALKING DOWN THE LAYERS AND SKIPPING WHOLE SUBTREES **/
+    private int[] unrank(BigInteger index) {
+        if (index.signum() < 0 || index.compareTo(count()) >= 0) {
+            throw new IndexOutOfBoundsException("Ladder " + index + " of " + count());
+        }
+        int[] choice = new int[moves];
+        int node = 0;
+        for (int i = 0; i < moves; i++) {
+            int n = nextOffsets[node];
+            while (index.compareTo(ways(next[n])) >= 0) {
+                index = index.subtract(ways(next[n]));
+                n++;
+            }
+            choice[i] = n;
+            node = next[n];
+        }
+        return choice;
+    }
+
+    /** CHOICES OF THE NEXT LADDER, CHANGED IN PLACE, OR NULL AFTER THE LAST ONE **/
+    private int[] advance(int[] choice) {
+        // move the deepest choice that has a later sibling, then take the first edge below it
+        for (int i = moves - 1; i >= 0; i--) {
+            int node = (i == 0) ? 0 : next[choice[i - 1]];
+            if (choice[i] + 1 < nextOffsets[node + 1]) {
+                choice[i]++;
+                for (int j = i + 1; j < moves; j++) {
+                    choice[j] = nextOffsets[next[choice[j - 1]]];
+                }
+                return choice;
+            }
+        }
+        return null;
+    }
+
+    private String[] toWords(int[] choice) {
+        String[] ladder = new String[moves + 1];
+        ladder[0] = graph.words[nodes[0]];
+        for (int i = 0; i < moves; i++) {
+            ladder[i + 1] = graph.words[nodes[next[choice[i]]]];
+        }
+        return ladder;
+    }
+}
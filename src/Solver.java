@@ -0,0 +1,16 @@
+/**
+ * The ways LadderGame can search for a word ladder.
+ */
+public enum Solver {
+    ASTAR("A*"),                        // best first on moves + letters away
+    BRUTE_FORCE("Brute Force"),         // breadth first from the starting word
+    BIDIRECTIONAL("Bidirectional"),     // breadth first from both words until they meet
+    CACHED("Cached Tree"),              // whole breadth first tree from the starting word, kept for reuse
+    PARALLEL_BFS("Parallel BFS");       // breadth first a level at a time, wide levels split across threads
+
+    final String title;  // name printed above the solution
+
+    Solver(String title) {
+        this.title = title;
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Counters and timings from one search, so a slow query can be traced to the
+ * dictionary setup, the queue or the neighbor scanning.
+ */
+public class SolverStats {
+    public long enqueues;      // partial ladders put on the queue
+    public long dequeues;      // partial ladders taken off the queue and expanded
+    public long candidates;    // neighbor words looked at while expanding
+    public long hits;          // candidates that were new (or reached in fewer moves) and got queued
+    public long misses;        // candidates that had already been reached
+    public int peakFrontier;   // most partial ladders waiting at one time
+    public int openSetHeight;  // tallest the A* open set tree got, 0 for flat queues
+    public long setupNanos;    // checking the words and getting the dictionary and graph
+    public long searchNanos;   // the search itself
+
+    /** NOTE THE QUEUE SIZE AFTER A CHANGE, KEEPING THE LARGEST **/
+    void frontier(int size) {
+        if (size > peakFrontier) {
+            peakFrontier = size;
+        }
+    }
+
+    public String toString() {
+        return "enqueues " + enqueues + ", dequeues " + dequeues + ", candidates " + candidates
+                + ", hits " + hits + ", misses " + misses + ", peak frontier " + peakFrontier
+                + ", open set height " + openSetHeight
+                + ", setup " + setupNanos / 1000 + " us, search " + searchNanos / 1000 + " us";
+    }
+}
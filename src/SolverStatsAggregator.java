@@ -0,0 +1,71 @@
+/**
+ * Adds up the stats of many searches, separately for each solver.
+ */
+public class SolverStatsAggregator implements SolverStatsListener {
+    private long[] searches = new long[Solver.values().length];
+    private long[] found = new long[Solver.values().length];
+    private SolverStats[] totals = new SolverStats[Solver.values().length];
+
+    public SolverStatsAggregator() {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new SolverStats();
+        }
+    }
+
+    public synchronized void solved(LadderResult result) {
+        int s = result.solver.ordinal();
+        SolverStats total = totals[s];
+        SolverStats stats = result.stats;
+        searches[s]++;
+        if (result.found()) {
+            found[s]++;
+        }
+        total.enqueues += stats.enqueues;
+        total.dequeues += stats.dequeues;
+        total.candidates += stats.candidates;
+        total.hits += stats.hits;
+        total.misses += stats.misses;
+        total.peakFrontier = Math.max(total.peakFrontier, stats.peakFrontier);
+        total.openSetHeight = Math.max(total.openSetHeight, stats.openSetHeight);
+        total.setupNanos += stats.setupNanos;
+        total.searchNanos += stats.searchNanos;
+    }
+
+    /** NUMBER OF SEARCHES RUN WITH A SOLVER **/
+    public synchronized long searches(Solver solver) {
+        return searches[solver.ordinal()];
+    }
+
+    /** NUMBER OF SEARCHES WITH A SOLVER THAT FOUND A LADDER **/
+    public synchronized long found(Solver solver) {
+        return found[solver.ordinal()];
+    }
+
+    /** SUMMED STATS OF A SOLVER; PEAK FRONTIER AND OPEN SET HEIGHT ARE THE LARGEST SEEN **/
+    public synchronized SolverStats total(Solver solver) {
+        SolverStats copy = new SolverStats();
+        SolverStats total = totals[solver.ordinal()];
+        copy.enqueues = total.enqueues;
+        copy.dequeues = total.dequeues;
+        copy.candidates = total.candidates;
+        copy.hits = total.hits;
+        copy.misses = total.misses;
+        copy.peakFrontier = total.peakFrontier;
+        copy.openSetHeight = total.openSetHeight;
+        copy.setupNanos = total.setupNanos;
+        copy.searchNanos = total.searchNanos;
+        return copy;
+    }
+
+    public synchronized String toString() {
+        StringBuilder report = new StringBuilder();
+        for (Solver solver : Solver.values()) {
+            int s = solver.ordinal();
+            if (searches[s] > 0) {
+                report.append(solver.title).append(": ").append(searches[s]).append(" searches, ")
+                        .append(found[s]).append(" found, ").append(totals[s]).append('\n');
+            }
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Told about every search a LadderGame finishes. Searches may run on several
+ * threads at once, so implementations have to be thread-safe.
+ */
+public interface SolverStatsListener {
+    void solved(LadderResult result);
+}
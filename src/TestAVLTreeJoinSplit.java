@@ -0,0 +1,85 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks AVLTree.fromSorted, split and join against plain sorted lists on seeded random
+ * data with duplicates: every tree must stay balanced and drain (deleteMin until empty)
+ * to exactly the list it should hold.
+ *
+ * Usage: java TestAVLTreeJoinSplit [rounds] [seed]
+ */
+public class TestAVLTreeJoinSplit {
+    public static void main(String[] args) {
+        int rounds = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 1;
+        Random random = new Random(seed);
+
+        for (int round = 0; round < rounds; round++) {
+            int n = random.nextInt(300);
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                values.add(random.nextInt(100));
+            }
+            Collections.sort(values);
+
+            // fromSorted keeps every value
+            AVLTree<Integer> built = AVLTree.fromSorted(values);
+            Checks.check(built.checkBalance(), "fromSorted of " + n + " values is out of balance");
+            Checks.check(drain(built).equals(values), "fromSorted of " + n + " values lost or reordered some");
+
+            // split at a key: smaller values stay, the rest move to the new tree
+            int key = random.nextInt(110);
+            List<Integer> below = new ArrayList<>();
+            List<Integer> rest = new ArrayList<>();
+            for (int value : values) {
+                (value < key ? below : rest).add(value);
+            }
+            AVLTree<Integer> low = AVLTree.fromSorted(values);
+            AVLTree<Integer> high = low.split(key);
+            Checks.check(low.checkBalance() && high.checkBalance(), "split at " + key + " left a tree out of balance");
+            Checks.check(drain(low).equals(below), "split at " + key + " kept the wrong values");
+            Checks.check(drain(high).equals(rest), "split at " + key + " moved the wrong values");
+
+            // joining the halves again gives back the whole list
+            AVLTree<Integer> whole = AVLTree.fromSorted(values);
+            whole.join(whole.split(key));
+            Checks.check(whole.checkBalance(), "join after split at " + key + " is out of balance");
+            Checks.check(drain(whole).equals(values), "join after split at " + key + " lost values");
+
+            // join trees of very different heights built by insert
+            AVLTree<Integer> tall = new AVLTree<>();
+            AVLTree<Integer> shortTree = new AVLTree<>();
+            List<Integer> all = new ArrayList<>();
+            int tallSize = random.nextInt(200);
+            int shortSize = random.nextInt(5);
+            for (int i = 0; i < tallSize; i++) {
+                int value = random.nextInt(50);
+                tall.insert(value);
+                all.add(value);
+            }
+            for (int i = 0; i < shortSize; i++) {
+                int value = 50 + random.nextInt(50);
+                shortTree.insert(value);
+                all.add(value);
+            }
+            Collections.sort(all);
+            tall.join(shortTree);
+            Checks.check(tall.checkBalance(),
+                    "join of " + tallSize + " and " + shortSize + " values is out of balance");
+            Checks.check(drain(tall).equals(all), "join of " + tallSize + " and " + shortSize + " values lost values");
+        }
+
+        Checks.finish(rounds + " rounds");
+    }
+
+    /** EMPTY A TREE WITH deleteMin, RETURNING WHAT CAME OUT **/
+    static <T extends Comparable<? super T>> List<T> drain(AVLTree<T> tree) {
+        List<T> values = new ArrayList<>();
+        while (!tree.isEmpty()) {
+            values.add(tree.deleteMin());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,83 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Checks LadderAnalytics against one plain breadth first search per word: every word's
+ * eccentricity, the diameter and the hardest pairs (most moves first, then start id,
+ * then end id) must all match.
+ *
+ * Usage: java TestLadderAnalytics [dictionary file] [top k] [word lengths...]
+ */
+public class TestLadderAnalytics {
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int topK = (args.length > 1) ? Integer.parseInt(args[1]) : 15;
+        int[] lengths = {2, 3, 4, 9};
+        if (args.length > 2) {
+            lengths = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                lengths[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        for (int len : lengths) {
+            WordGraph graph = game.graph(len);
+            LadderAnalytics analytics = new LadderAnalytics(graph, topK);
+            ArrayList<long[]> pairs = new ArrayList<>();  // {moves, start id, end id}
+            int diameter = 0;
+            for (int start = 0; start < graph.size(); start++) {
+                int[] distance = distances(graph, start);
+                int eccentricity = 0;
+                for (int end = 0; end < graph.size(); end++) {
+                    eccentricity = Math.max(eccentricity, distance[end]);
+                    if (end > start && distance[end] > 0) {
+                        pairs.add(new long[] {distance[end], start, end});
+                    }
+                }
+                Checks.check(analytics.eccentricity[start] == eccentricity, graph.word(start) + " has eccentricity "
+                        + analytics.eccentricity[start] + ", expected " + eccentricity);
+                diameter = Math.max(diameter, eccentricity);
+            }
+            Checks.check(analytics.diameter == diameter, len + " letter diameter is " + analytics.diameter
+                    + ", expected " + diameter);
+
+            pairs.sort((a, b) -> (a[0] != b[0]) ? Long.compare(b[0], a[0])
+                    : (a[1] != b[1]) ? Long.compare(a[1], b[1]) : Long.compare(a[2], b[2]));
+            Checks.check(analytics.hardest.size() == Math.min(topK, pairs.size()), len + " letter words have "
+                    + analytics.hardest.size() + " hardest pairs, expected " + Math.min(topK, pairs.size()));
+            for (int i = 0; i < Math.min(analytics.hardest.size(), pairs.size()); i++) {
+                LadderAnalytics.Pair got = analytics.hardest.get(i);
+                long[] expected = pairs.get(i);
+                Checks.check(got.moves == expected[0] && got.startWord.equals(graph.word((int) expected[1]))
+                        && got.endWord.equals(graph.word((int) expected[2])), len + " letter hardest pair " + i
+                        + " is " + got + ", expected " + graph.word((int) expected[1]) + " -> "
+                        + graph.word((int) expected[2]) + " in " + expected[0] + " moves");
+            }
+            System.out.println(len + " letter words: " + graph.size() + " words, diameter " + diameter);
+        }
+
+        Checks.finish(lengths.length + " lengths");
+    }
+
+    /** MOVES FROM start TO EVERY WORD, -1 WHERE THERE IS NO LADDER **/
+    static int[] distances(WordGraph graph, int start) {
+        int[] distance = new int[graph.size()];
+        Arrays.fill(distance, -1);
+        distance[start] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int id = queue.poll();
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                int next = graph.edges[e];
+                if (distance[next] < 0) {
+                    distance[next] = distance[id] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,57 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Checks Solver.PARALLEL_BFS against Solver.BRUTE_FORCE on seeded random pairs at
+ * several parallel thresholds, from splitting every level to never splitting. Then checks
+ * that pairs whose searches run through wide levels get the same number of moves with
+ * the default threshold as with splitting turned off. The timing of the two is measured
+ * by the ParallelBfs workloads of the JMH benchmarks instead.
+ *
+ * Usage: java TestParallelBFS [dictionary file] [pairs] [seed]
+ */
+public class TestParallelBFS {
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int pairs = (args.length > 1) ? Integer.parseInt(args[1]) : 600;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 11;
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        Random random = new Random(seed);
+        for (int threshold : new int[] {1, 64, 1024, Integer.MAX_VALUE}) {
+            game.setParallelThreshold(threshold);
+            for (int i = 0; i < pairs; i++) {
+                ArrayList<String> words = game.allList[3 + random.nextInt(8)];
+                String startWord = words.get(random.nextInt(words.size()));
+                String endWord = words.get(random.nextInt(words.size()));
+                LadderResult parallel = game.solve(startWord, endWord, Solver.PARALLEL_BFS);
+                LadderResult brute = game.solve(startWord, endWord, Solver.BRUTE_FORCE);
+                Checks.check(parallel.moves() == brute.moves(), "threshold " + threshold + ": " + startWord + " -> "
+                        + endWord + ": parallel " + parallel.moves() + " moves, brute force " + brute.moves());
+                Checks.checkLadder(parallel, startWord, endWord);
+            }
+        }
+
+        // wide levels: five letter words far apart or in different components search most of the graph
+        ArrayList<String> words = game.allList[5];
+        ArrayList<String[]> widePairs = new ArrayList<>();
+        while (widePairs.size() < 40) {
+            String startWord = words.get(random.nextInt(words.size()));
+            String endWord = words.get(random.nextInt(words.size()));
+            if (game.solve(startWord, endWord, Solver.BRUTE_FORCE).stats.enqueues > words.size() / 2) {
+                widePairs.add(new String[] {startWord, endWord});
+            }
+        }
+        for (String[] pair : widePairs) {
+            game.setParallelThreshold(Integer.MAX_VALUE);
+            LadderResult sequential = game.solve(pair[0], pair[1], Solver.PARALLEL_BFS);
+            game.setParallelThreshold(1024);
+            LadderResult parallel = game.solve(pair[0], pair[1], Solver.PARALLEL_BFS);
+            Checks.check(parallel.moves() == sequential.moves(), pair[0] + " -> " + pair[1] + ": split levels took "
+                    + parallel.moves() + " moves, unsplit " + sequential.moves());
+            Checks.checkLadder(parallel, pair[0], pair[1]);
+        }
+
+        Checks.finish(pairs + " pairs at 4 thresholds, " + widePairs.size() + " wide pairs");
+    }
+}
@@ -0,0 +1,54 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Checks Solver.CACHED against Solver.BRUTE_FORCE on seeded random pairs. A few starting
+ * words are reused so most queries are answered from a cached tree, from either end.
+ * Also checks eviction keeps the cache under its size and invalidate drops a length.
+ *
+ * Usage: java TestPathTreeCache [dictionary file] [pairs] [seed]
+ */
+public class TestPathTreeCache {
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int pairs = (args.length > 1) ? Integer.parseInt(args[1]) : 3000;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 9;
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        Random random = new Random(seed);
+        ArrayList<String> words = game.allList[5];
+        ArrayList<String> roots = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            roots.add(words.get(random.nextInt(words.size())));
+        }
+
+        for (int i = 0; i < pairs; i++) {
+            String startWord = roots.get(random.nextInt(roots.size()));
+            String endWord = words.get(random.nextInt(words.size()));
+            if (random.nextBoolean()) {
+                String swap = startWord;
+                startWord = endWord;
+                endWord = swap;
+            }
+            LadderResult cached = game.solve(startWord, endWord, Solver.CACHED);
+            LadderResult brute = game.solve(startWord, endWord, Solver.BRUTE_FORCE);
+            Checks.check(cached.moves() == brute.moves(), startWord + " -> " + endWord + ": cached "
+                    + cached.moves() + " moves, brute force " + brute.moves());
+            Checks.checkLadder(cached, startWord, endWord);
+        }
+        Checks.check(game.pathCache.hits() > game.pathCache.misses(), "most queries should hit: " + game.pathCache);
+
+        // a cache with room for two trees of this length never holds more
+        PathTreeCache small = new PathTreeCache(2L * words.size());
+        WordGraph graph = game.graph(5);
+        for (int i = 0; i < 10; i++) {
+            int root = random.nextInt(graph.size());
+            small.put(graph, graph.word(root), LadderGame.shortestPathTree(graph, root, new SolverStats()));
+            Checks.check(small.size() <= 2, "cache holds " + small.size() + " trees, room for 2");
+        }
+        small.invalidate(5);
+        Checks.check(small.size() == 0, "invalidate(5) left " + small.size() + " trees");
+
+        Checks.finish(pairs + " pairs, " + game.pathCache);
+    }
+}
@@ -0,0 +1,77 @@
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Checks PooledAVLTree against a TreeMap multiset and against AVLTree on seeded random
+ * runs of insert, remove and deleteMin: same minimum, same contains and same height
+ * after every step. Then checks A* finds ladders of the same length with every
+ * OpenSetType.
+ *
+ * Usage: java TestPooledAVLTree [dictionary file] [pairs] [seed]
+ */
+public class TestPooledAVLTree {
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int pairs = (args.length > 1) ? Integer.parseInt(args[1]) : 800;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 3;
+        Random random = new Random(seed);
+
+        for (int round = 0; round < 200; round++) {
+            PooledAVLTree<Integer> pooled = new PooledAVLTree<>();
+            AVLTree<Integer> plain = new AVLTree<>();
+            TreeMap<Integer, Integer> counts = new TreeMap<>();
+            for (int i = 0; i < 2000; i++) {
+                int op = random.nextInt(4);
+                int x = random.nextInt(300);
+                if (op < 2) {
+                    pooled.insert(x);
+                    plain.insert(x);
+                    counts.merge(x, 1, Integer::sum);
+                } else if (op == 2) {
+                    pooled.remove(x);
+                    plain.remove(x);
+                    removeOne(counts, x);
+                } else {
+                    Integer expected = counts.isEmpty() ? null : counts.firstKey();
+                    Integer got = pooled.deleteMin();
+                    plain.deleteMin();
+                    Checks.check(expected == null ? got == null : expected.equals(got),
+                            "deleteMin gave " + got + ", expected " + expected);
+                    if (expected != null) {
+                        removeOne(counts, expected);
+                    }
+                }
+                Checks.check(pooled.contains(x) == counts.containsKey(x),
+                        "contains(" + x + ") is " + pooled.contains(x));
+                Checks.check(pooled.height() == plain.height(),
+                        "height " + pooled.height() + ", AVLTree has " + plain.height());
+            }
+        }
+
+        // A* must find equally short ladders whatever its open set
+        LadderGame game = new LadderGame(dictionaryFileName);
+        int[] moves = new int[pairs];
+        for (OpenSetType type : OpenSetType.values()) {
+            game.openSetType = type;
+            Random pairRandom = new Random(seed);
+            for (int i = 0; i < pairs; i++) {
+                ArrayList<String> words = game.allList[3 + pairRandom.nextInt(6)];
+                String startWord = words.get(pairRandom.nextInt(words.size()));
+                String endWord = words.get(pairRandom.nextInt(words.size()));
+                int found = game.solve(startWord, endWord, Solver.ASTAR).moves();
+                if (type == OpenSetType.values()[0]) {
+                    moves[i] = found;
+                }
+                Checks.check(found == moves[i], type + ": " + startWord + " -> " + endWord + " took "
+                        + found + " moves, " + OpenSetType.values()[0] + " took " + moves[i]);
+            }
+        }
+
+        Checks.finish("200 rounds, " + pairs + " pairs");
+    }
+
+    static void removeOne(TreeMap<Integer, Integer> counts, int x) {
+        counts.computeIfPresent(x, (key, count) -> (count == 1) ? null : count - 1);
+    }
+}
@@ -0,0 +1,116 @@
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Checks ShortestLadders on seeded random pairs. The move count must match BRUTE_FORCE
+ * and the ladder count must match an independent count over the distances to the end
+ * word. Where there are few enough ladders to list, every one must be a valid shortest
+ * ladder, none may repeat, they must come in order, and iterator(from) and ladder(index)
+ * must agree with the full listing.
+ *
+ * Usage: java TestShortestLadders [dictionary file] [pairs] [seed]
+ */
+public class TestShortestLadders {
+    static final int MAX_LISTED = 200000;  // pairs with more ladders only have their count checked
+
+    public static void main(String[] args) {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int pairs = (args.length > 1) ? Integer.parseInt(args[1]) : 300;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 9;
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        Random random = new Random(seed);
+        BigInteger mostLadders = BigInteger.ZERO;
+        for (int i = 0; i < pairs; i++) {
+            int len = 3 + random.nextInt(4);
+            ArrayList<String> words = game.allList[len];
+            String startWord = words.get(random.nextInt(words.size()));
+            String endWord = words.get(random.nextInt(words.size()));
+            String pairName = startWord + " -> " + endWord;
+
+            ShortestLadders ladders = game.shortestLadders(startWord, endWord);
+            int moves = game.solve(startWord, endWord, Solver.BRUTE_FORCE).moves();
+            Checks.check(ladders.moves() == moves, pairName + ": " + ladders.moves() + " moves, brute force " + moves);
+            if (moves < 0) {
+                Checks.check(ladders.count().signum() == 0 && !ladders.iterator().hasNext(),
+                        pairName + ": no ladder but count is " + ladders.count());
+                continue;
+            }
+
+            WordGraph graph = game.graph(len);
+            BigInteger count = countLadders(graph, graph.indexOf(startWord), graph.indexOf(endWord));
+            Checks.check(ladders.count().equals(count),
+                    pairName + ": count " + ladders.count() + ", expected " + count);
+            mostLadders = mostLadders.max(count);
+            if (count.compareTo(BigInteger.valueOf(MAX_LISTED)) > 0) {
+                continue;
+            }
+
+            ArrayList<String> listed = new ArrayList<>();
+            HashSet<String> seen = new HashSet<>();
+            for (String[] ladder : ladders) {
+                String joined = String.join(" ", ladder);
+                Checks.check(ladder.length == moves + 1, pairName + ": " + joined + " is not a shortest ladder");
+                Checks.checkLadder(ladder, startWord, endWord);
+                Checks.check(seen.add(joined), pairName + ": " + joined + " is listed twice");
+                Checks.check(listed.isEmpty() || listed.get(listed.size() - 1).compareTo(joined) < 0,
+                        pairName + ": " + joined + " is out of order");
+                listed.add(joined);
+            }
+            Checks.check(count.equals(BigInteger.valueOf(listed.size())), pairName + ": listed " + listed.size()
+                    + " ladders, count " + count);
+
+            // start part way through and pick one out by index
+            int from = random.nextInt(listed.size());
+            Iterator<String[]> rest = ladders.iterator(BigInteger.valueOf(from));
+            for (int k = from; k < listed.size(); k++) {
+                if (!rest.hasNext() || !String.join(" ", rest.next()).equals(listed.get(k))) {
+                    Checks.check(false, pairName + ": iterator(" + from + ") differs at " + k);
+                    break;
+                }
+            }
+            Checks.check(!rest.hasNext(), pairName + ": iterator(" + from + ") runs past the last ladder");
+            Checks.check(String.join(" ", ladders.ladder(BigInteger.valueOf(from))).equals(listed.get(from)),
+                    pairName + ": ladder(" + from + ") differs from the listing");
+        }
+
+        Checks.finish(pairs + " pairs, most ladders " + mostLadders);
+    }
+
+    /** SHORTEST LADDERS FROM startId TO endId, COUNTED OVER EACH WORD'S DISTANCE TO endId **/
+    static BigInteger countLadders(WordGraph graph, int startId, int endId) {
+        int[] distance = new int[graph.size()];
+        Arrays.fill(distance, -1);
+        distance[endId] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(endId);
+        ArrayList<Integer> order = new ArrayList<>();  // words nearest endId first
+        while (!queue.isEmpty()) {
+            int id = queue.poll();
+            order.add(id);
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                int next = graph.edges[e];
+                if (distance[next] < 0) {
+                    distance[next] = distance[id] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        BigInteger[] ways = new BigInteger[graph.size()];
+        for (int id : order) {
+            ways[id] = (id == endId) ? BigInteger.ONE : BigInteger.ZERO;
+            for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+                int next = graph.edges[e];
+                if (distance[next] == distance[id] - 1) {
+                    ways[id] = ways[id].add(ways[next]);
+                }
+            }
+        }
+        return (ways[startId] == null) ? BigInteger.ZERO : ways[startId];
+    }
+}
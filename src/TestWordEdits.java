@@ -0,0 +1,130 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Random;
+
+/**
+ * Checks LadderGame.addWord and removeWord on seeded random edits. After each batch the
+ * edited graphs must match a WordGraph rebuilt from allList: same neighbors and the same
+ * component partition, and every Solver must agree with BRUTE_FORCE. Finally the edited
+ * game is written as a snapshot and reloaded, which must keep allList sorted and give
+ * the same ladders.
+ *
+ * Usage: java TestWordEdits [dictionary file] [rounds] [seed]
+ */
+public class TestWordEdits {
+    public static void main(String[] args) throws IOException {
+        String dictionaryFileName = (args.length > 0) ? args[0] : "dictionary.txt";
+        int rounds = (args.length > 1) ? Integer.parseInt(args[1]) : 40;
+        long seed = (args.length > 2) ? Long.parseLong(args[2]) : 5;
+
+        LadderGame game = new LadderGame(dictionaryFileName);
+        game.useLandmarks(4);
+        Random random = new Random(seed);
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < 50; i++) {
+                int len = 3 + random.nextInt(3);
+                game.graph(len);  // edit a built graph so the edits themselves are tested
+                if (random.nextBoolean()) {
+                    game.addWord(randomWord(random, len));
+                } else {
+                    ArrayList<String> words = game.allList[len];
+                    String word = words.get(random.nextInt(words.size()));
+                    Checks.check(game.removeWord(word), "removeWord(" + word + ") found nothing to remove");
+                    Checks.check(!game.removeWord(word), "removeWord(" + word + ") removed it twice");
+                }
+            }
+            for (int len = 3; len <= 5; len++) {
+                compare(game.graph(len), new WordGraph(game.allList[len]), len);
+                int distinct = new HashSet<>(game.allList[len]).size();
+                Checks.check(game.dictionary(len).size() == distinct, "dictionary(" + len + ") holds "
+                        + game.dictionary(len).size() + " words, allList " + distinct);
+                for (int i = 0; i < 20; i++) {
+                    ArrayList<String> words = game.allList[len];
+                    String startWord = words.get(random.nextInt(words.size()));
+                    String endWord = words.get(random.nextInt(words.size()));
+                    int moves = game.solve(startWord, endWord, Solver.BRUTE_FORCE).moves();
+                    for (Solver solver : Solver.values()) {
+                        int found = game.solve(startWord, endWord, solver).moves();
+                        Checks.check(found == moves, solver + ": " + startWord + " -> " + endWord + " took "
+                                + found + " moves, brute force " + moves);
+                    }
+                }
+            }
+        }
+
+        // a snapshot of the edited game reloads sorted and gives the same ladders
+        File snapshot = File.createTempFile("TestWordEdits", ".snap");
+        snapshot.deleteOnExit();
+        game.writeSnapshot(snapshot.getPath());
+        LadderGame reloaded = new LadderGame(snapshot.getPath());
+        for (int len = 1; len < LadderGame.MaxWordSize; len++) {
+            ArrayList<String> words = reloaded.allList[len];
+            for (int i = 1; i < words.size(); i++) {
+                if (words.get(i - 1).compareTo(words.get(i)) > 0) {
+                    Checks.check(false, "reloaded " + len + " letter words are out of order at " + words.get(i));
+                    break;
+                }
+            }
+            Checks.check(new ArrayList<>(new LinkedHashSet<>(game.allList[len])).equals(words),
+                    "reloaded " + len + " letter words differ from the edited ones");
+        }
+        for (int i = 0; i < 200; i++) {
+            ArrayList<String> words = game.allList[3 + random.nextInt(3)];
+            String startWord = words.get(random.nextInt(words.size()));
+            String endWord = words.get(random.nextInt(words.size()));
+            int before = game.solve(startWord, endWord, Solver.BIDIRECTIONAL).moves();
+            int after = reloaded.solve(startWord, endWord, Solver.BIDIRECTIONAL).moves();
+            Checks.check(before == after, startWord + " -> " + endWord + " took " + before
+                    + " moves before the snapshot, " + after + " after");
+        }
+
+        Checks.finish(rounds * 50 + " edits");
+    }
+
+    static String randomWord(Random random, int len) {
+        char[] letters = new char[len];
+        for (int i = 0; i < len; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    /** SAME WORDS, SAME NEIGHBORS AND THE SAME COMPONENTS UP TO RENUMBERING **/
+    static void compare(WordGraph edited, WordGraph rebuilt, int len) {
+        if (edited.size() != rebuilt.size()) {
+            Checks.check(false, len + " letter graph has " + edited.size() + " words, rebuilt " + rebuilt.size());
+            return;
+        }
+        HashMap<Integer, Integer> editedToRebuilt = new HashMap<>();
+        HashMap<Integer, Integer> rebuiltToEdited = new HashMap<>();
+        for (int id = 0; id < edited.size(); id++) {
+            String word = edited.word(id);
+            int other = rebuilt.indexOf(word);
+            if (other < 0 || edited.indexOf(word) != id) {
+                Checks.check(false, word + " is missing or misnumbered in the " + len + " letter graph");
+                continue;
+            }
+            Checks.check(neighbors(edited, id).equals(neighbors(rebuilt, other)), word + " has the wrong neighbors");
+            int mine = edited.component[id];
+            int theirs = rebuilt.component[other];
+            Checks.check(mine >= 0 && mine < edited.componentCount, word + " has component " + mine
+                    + " of " + edited.componentCount);
+            Integer mapped = editedToRebuilt.putIfAbsent(mine, theirs);
+            Integer mappedBack = rebuiltToEdited.putIfAbsent(theirs, mine);
+            Checks.check((mapped == null || mapped == theirs) && (mappedBack == null || mappedBack == mine),
+                    word + " is in the wrong component");
+        }
+    }
+
+    static HashSet<String> neighbors(WordGraph graph, int id) {
+        HashSet<String> words = new HashSet<>();
+        for (int e = graph.offsets[id]; e < graph.offsets[id + 1]; e++) {
+            words.add(graph.word(graph.edges[e]));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,304 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Neighbor index for all the words of one length. Every word gets an int id and
+ * the one-letter-off words of each word are stored in compressed (CSR) arrays,
+ * so the solvers can walk real edges instead of probing the dictionary with
+ * 26 letters at every position.
+ */
+public class WordGraph {
+    String[] words;   // word for each id
+    int[] offsets;    // neighbors of id i are edges[offsets[i]] .. edges[offsets[i + 1] - 1]
+    int[] edges;      // neighbor ids grouped by word
+    PackedWordMap ids;  // packed word -> id
+    int[] component;  // words can only be laddered to words with the same component number
+    int componentCount;
+
+    /**
+     * Builds the graph from a WordTrie of the words: the neighbors of each word are
+     * whatever the trie finds one letter away, so the work grows with the number of
+     * edges instead of probing every letter at every position.
+     * @param wordList  All words of a single length, duplicates are ignored
+     */
+    public WordGraph(ArrayList<String> wordList) {
+        // give every distinct word an id
+        ids = new PackedWordMap(wordList.size());
+        ArrayList<String> distinct = new ArrayList<>();
+        WordTrie trie = new WordTrie(wordList.size() * 2);  // only needed while the edges are found
+        for (String word : wordList) {
+            if (!ids.containsKey(word)) {
+                ids.put(word, distinct.size());
+                trie.insert(word, distinct.size());
+                distinct.add(word);
+            }
+        }
+        words = distinct.toArray(new String[0]);
+
+        // list the neighbors of each word in id order, growing edges as needed
+        offsets = new int[words.length + 1];
+        int[][] edgeList = {new int[Math.max(16, words.length * 4)]};
+        int[] edgeCount = {0};
+        for (int id = 0; id < words.length; id++) {
+            trie.forEachNeighbor(words[id], to -> {
+                if (edgeCount[0] == edgeList[0].length) {
+                    edgeList[0] = Arrays.copyOf(edgeList[0], edgeList[0].length * 2);
+                }
+                edgeList[0][edgeCount[0]++] = to;
+            });
+            offsets[id + 1] = edgeCount[0];
+        }
+        edges = Arrays.copyOf(edgeList[0], edgeCount[0]);
+
+        labelComponents();
+    }
+
+    /**
+     * Wraps arrays that were already built, for example by DictionarySnapshot
+     */
+    WordGraph(String[] words, int[] offsets, int[] edges, int[] component, int componentCount) {
+        this.words = words;
+        this.offsets = offsets;
+        this.edges = edges;
+        this.component = component;
+        this.componentCount = componentCount;
+        ids = new PackedWordMap(words.length);
+        for (int id = 0; id < words.length; id++) {
+            ids.put(words[id], id);
+        }
+    }
+
+    private WordGraph() {
+    }
+
+    /**
+     * Copy of this graph with one more word, which gets the next id. Only the new
+     * word's neighbors gain an edge, and component numbers only change for words in
+     * components the new word joins together. This graph is left as it was, so
+     * searches already running on it are not disturbed.
+     * @param word  Word of this graph's length that is not in it yet
+     */
+    WordGraph withWord(String word) {
+        int n = words.length;
+        int[][] found = {new int[8]};
+        int[] count = {0};
+        forEachNeighbor(word, id -> {
+            if (count[0] == found[0].length) {
+                found[0] = Arrays.copyOf(found[0], count[0] * 2);
+            }
+            found[0][count[0]++] = id;
+        });
+        int[] neighbors = Arrays.copyOf(found[0], count[0]);
+        Arrays.sort(neighbors);
+
+        WordGraph graph = new WordGraph();
+        graph.words = Arrays.copyOf(words, n + 1);
+        graph.words[n] = word;
+        graph.ids = ids.copy();
+        graph.ids.put(word, n);
+
+        // copy each word's edges, adding the new word to the end of its neighbors' lists
+        graph.offsets = new int[n + 2];
+        graph.edges = new int[edges.length + 2 * neighbors.length];
+        int out = 0;
+        int next = 0;
+        for (int id = 0; id < n; id++) {
+            graph.offsets[id] = out;
+            int degree = offsets[id + 1] - offsets[id];
+            System.arraycopy(edges, offsets[id], graph.edges, out, degree);
+            out += degree;
+            if (next < neighbors.length && neighbors[next] == id) {
+                graph.edges[out++] = n;
+                next++;
+            }
+        }
+        graph.offsets[n] = out;
+        System.arraycopy(neighbors, 0, graph.edges, out, neighbors.length);
+        graph.offsets[n + 1] = out + neighbors.length;
+
+        // the new word joins its neighbors' components into one, or starts its own
+        graph.component = Arrays.copyOf(component, n + 1);
+        graph.componentCount = componentCount;
+        if (neighbors.length == 0) {
+            graph.component[n] = graph.componentCount++;
+        } else {
+            int joined = component[neighbors[0]];
+            graph.component[n] = joined;
+            for (int neighbor : neighbors) {
+                if (graph.component[neighbor] != joined) {
+                    graph.relabel(neighbor, graph.component[neighbor], joined);
+                }
+            }
+        }
+        graph.compactComponents();
+        return graph;
+    }
+
+    /**
+     * Copy of this graph without one word. The last word takes over the removed word's
+     * id so ids stay dense. Only the removed word's component is searched again, since
+     * that is the only one that can fall apart. This graph is left as it was.
+     * @param removed  Id of the word to take out
+     */
+    WordGraph withoutWord(int removed) {
+        int last = words.length - 1;
+        WordGraph graph = new WordGraph();
+        graph.words = Arrays.copyOf(words, last);
+        graph.ids = ids.copy();
+        graph.ids.remove(words[removed]);
+        graph.component = Arrays.copyOf(component, last);
+        if (removed != last) {
+            graph.words[removed] = words[last];
+            graph.ids.put(words[last], removed);
+            graph.component[removed] = component[last];
+        }
+
+        // copy the edges without the removed word, renumbering the last word
+        graph.offsets = new int[last + 1];
+        graph.edges = new int[edges.length - 2 * degree(removed)];
+        int out = 0;
+        for (int id = 0; id < last; id++) {
+            graph.offsets[id] = out;
+            int from = (id == removed) ? last : id;
+            for (int e = offsets[from]; e < offsets[from + 1]; e++) {
+                if (edges[e] != removed) {
+                    graph.edges[out++] = (edges[e] == last) ? removed : edges[e];
+                }
+            }
+        }
+        graph.offsets[last] = out;
+
+        // the words left in the old component may now be in several pieces,
+        // each holding at least one of the removed word's neighbors
+        graph.componentCount = componentCount;
+        if (degree(removed) > 1) {
+            int old = component[removed];
+            for (int e = offsets[removed]; e < offsets[removed + 1]; e++) {
+                int neighbor = (edges[e] == last) ? removed : edges[e];
+                if (graph.component[neighbor] == old) {
+                    graph.relabel(neighbor, old, graph.componentCount++);
+                }
+            }
+        }
+        graph.compactComponents();
+        return graph;
+    }
+
+    /** GIVE THE WORDS CONNECTED TO root THAT ARE NUMBERED from THE NUMBER to INSTEAD **/
+    private void relabel(int root, int from, int to) {
+        IntRingQueue queue = new IntRingQueue();
+        component[root] = to;
+        queue.enqueue(root);
+        while (!queue.isEmpty()) {
+            int id = queue.dequeue();
+            for (int e = offsets[id]; e < offsets[id + 1]; e++) {
+                if (component[edges[e]] == from) {
+                    component[edges[e]] = to;
+                    queue.enqueue(edges[e]);
+                }
+            }
+        }
+    }
+
+    /** NUMBER THE COMPONENTS AGAIN FROM 0 ONCE EDITS HAVE LEFT TOO MANY NUMBERS UNUSED **/
+    private void compactComponents() {
+        if (componentCount > 2 * words.length + 16) {
+            labelComponents();
+        }
+    }
+
+    /**
+     * Give every connected group of words its own component number with a
+     * breadth first search from each word that has no number yet.
+     */
+    private void labelComponents() {
+        component = new int[words.length];
+        Arrays.fill(component, -1);
+        int[] queue = new int[words.length];
+        componentCount = 0;
+        for (int root = 0; root < words.length; root++) {
+            if (component[root] >= 0) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            component[root] = componentCount;
+            queue[tail++] = root;
+            while (head < tail) {
+                int id = queue[head++];
+                for (int e = offsets[id]; e < offsets[id + 1]; e++) {
+                    if (component[edges[e]] < 0) {
+                        component[edges[e]] = componentCount;
+                        queue[tail++] = edges[e];
+                    }
+                }
+            }
+            componentCount++;
+        }
+    }
+
+    /** NUMBER OF WORDS IN THE GRAPH **/
+    public int size() {
+        return words.length;
+    }
+
+    /** ID OF A WORD, OR -1 IF IT IS NOT IN THE DICTIONARY **/
+    public int indexOf(String word) {
+        return ids.get(word);
+    }
+
+    /** ID OF A PACKED WORD (SEE PackedWord), OR -1 IF IT IS NOT IN THE DICTIONARY **/
+    public int indexOf(long low, long high) {
+        return ids.get(low, high);
+    }
+
+    /**
+     * Hand the id of every word in the graph one letter away from word to found, by
+     * swapping each 5 bit letter of its packed code and probing the id map. The word
+     * itself does not need to be in the graph.
+     */
+    public void forEachNeighbor(String word, IntConsumer found) {
+        long low = PackedWord.low(word);
+        long high = PackedWord.high(word);
+        for (int i = 0; i < word.length(); i++) {
+            boolean inLow = i < PackedWord.LETTERS_PER_LONG;
+            int position = i % PackedWord.LETTERS_PER_LONG;
+            long code = inLow ? low : high;
+            int original = PackedWord.letter(code, position);
+            for (int letter = 0; letter < 26; letter++) {
+                if (letter != original) {
+                    long swapped = PackedWord.replace(code, position, letter);
+                    int id = inLow ? ids.get(swapped, high) : ids.get(low, swapped);
+                    if (id >= 0) {
+                        found.accept(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /** WORD WITH A GIVEN ID **/
+    public String word(int id) {
+        return words[id];
+    }
+
+    /** WORDS FOR A PATH OF WORD IDS **/
+    public String[] toWords(int[] path) {
+        String[] ladder = new String[path.length];
+        for (int i = 0; i < path.length; i++) {
+            ladder[i] = words[path[i]];
+        }
+        return ladder;
+    }
+
+    /** TRUE IF SOME LADDER CONNECTS THE TWO WORDS **/
+    public boolean connected(int id1, int id2) {
+        return component[id1] == component[id2];
+    }
+
+    /** NUMBER OF ONE-LETTER-OFF NEIGHBORS OF A WORD **/
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * A starting and ending word to find a ladder between.
+ */
+public class WordPair {
+    public String startWord;
+    public String endWord;
+
+    public WordPair(String startWord, String endWord) {
+        this.startWord = startWord;
+        this.endWord = endWord;
+    }
+
+    public String toString() {
+        return startWord + " -> " + endWord;
+    }
+}
@@ -0,0 +1,102 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Trie over lower case words, stored in flat int arrays. It can list every word that
+ * differs from a given word in exactly one letter in a single walk: the walk may swap
+ * one letter for any branch that exists and must follow the word exactly after that,
+ * so it only ever visits prefixes that are really in the dictionary.
+ */
+public class WordTrie {
+    static final int ALPHABET = 26;
+
+    int[] children;  // children[node * 26 + letter] is the child node, 0 if none (the root is never a child)
+    int[] wordId;    // id of the word ending at each node, -1 if none
+    int nodeCount = 1;
+    int wordCount = 0;
+
+    public WordTrie() {
+        this(64);
+    }
+
+    /**
+     * @param expectedNodes  Nodes to make room for before the arrays grow
+     */
+    public WordTrie(int expectedNodes) {
+        expectedNodes = Math.max(expectedNodes, 2);
+        children = new int[expectedNodes * ALPHABET];
+        wordId = new int[expectedNodes];
+        Arrays.fill(wordId, -1);
+    }
+
+    /** ADD A WORD WITH ITS ID, REPLACING THE ID IF THE WORD IS ALREADY THERE **/
+    public void insert(String word, int id) {
+        int node = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int letter = letter(word, i);
+            int child = children[node * ALPHABET + letter];
+            if (child == 0) {
+                child = newNode();
+                children[node * ALPHABET + letter] = child;
+            }
+            node = child;
+        }
+        if (wordId[node] < 0) {
+            wordCount++;
+        }
+        wordId[node] = id;
+    }
+
+    /** NUMBER OF WORDS IN THE TRIE **/
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Hand the id of every word exactly one letter away from word to found.
+     * The word itself does not need to be in the trie.
+     */
+    public void forEachNeighbor(String word, IntConsumer found) {
+        neighbors(word, 0, 0, false, found);
+    }
+
+    private void neighbors(String word, int node, int depth, boolean swapped, IntConsumer found) {
+        if (depth == word.length()) {
+            if (swapped && wordId[node] >= 0) {
+                found.accept(wordId[node]);
+            }
+            return;
+        }
+        int letter = letter(word, depth);
+        int base = node * ALPHABET;
+        if (!swapped) {
+            // swap this letter for every other branch that exists
+            for (int other = 0; other < ALPHABET; other++) {
+                if (other != letter && children[base + other] != 0) {
+                    neighbors(word, children[base + other], depth + 1, true, found);
+                }
+            }
+        }
+        if (children[base + letter] != 0) {
+            neighbors(word, children[base + letter], depth + 1, swapped, found);
+        }
+    }
+
+    private static int letter(String word, int i) {
+        int letter = word.charAt(i) - 'a';
+        if (letter < 0 || letter >= ALPHABET) {
+            throw new IllegalArgumentException("Not a lower case word: " + word);
+        }
+        return letter;
+    }
+
+    private int newNode() {
+        if (nodeCount == wordId.length) {
+            int newLength = wordId.length * 2;
+            children = Arrays.copyOf(children, newLength * ALPHABET);
+            wordId = Arrays.copyOf(wordId, newLength);
+            Arrays.fill(wordId, nodeCount, newLength, -1);
+        }
+        return nodeCount++;
+    }
+}